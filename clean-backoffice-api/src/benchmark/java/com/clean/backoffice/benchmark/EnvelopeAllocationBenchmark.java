@@ -0,0 +1,187 @@
+package com.clean.backoffice.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+
+import com.clean.backoffice.dto.OBConfigDTO;
+import com.clean.common.base.dto.OBBaseResponseDTO;
+import com.clean.common.base.dto.OBPageDTO;
+import com.clean.common.web.EnvelopeHttpMessageConverter;
+import com.clean.common.web.EnvelopeWriter;
+
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * In-process comparison of the heap allocated per response by the default Jackson converter and
+ * by {@link EnvelopeHttpMessageConverter}, for a page of {@link OBConfigDTO} as returned by
+ * {@code findPageByCriteria}, and of the page message built with {@code String.format} and with
+ * concatenation.
+ * <p>
+ * Each case runs {@code --warmup} iterations, then {@code --iterations} measured ones on one
+ * thread; allocation is read from {@code ThreadMXBean.getCurrentThreadAllocatedBytes} before and
+ * after, and bytes go to a discarding stream so only the serializer's own garbage is counted.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew envelopeAllocationBenchmark -PbenchmarkArgs="--page-size 50 --iterations 200000"
+ * </pre>
+ */
+public final class EnvelopeAllocationBenchmark {
+
+    private static final Type PAGE_RESPONSE = new ParameterizedTypeReference<
+            OBBaseResponseDTO<OBPageDTO<OBConfigDTO>>>() {
+    }.getType();
+
+    // Results are summed here so the JIT cannot drop the measured work
+    private static volatile long sink;
+
+    private EnvelopeAllocationBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int pageSize = 50;
+        int warmup = 50_000;
+        int iterations = 200_000;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--page-size" -> pageSize = Integer.parseInt(args[i + 1]);
+                case "--warmup" -> warmup = Integer.parseInt(args[i + 1]);
+                case "--iterations" -> iterations = Integer.parseInt(args[i + 1]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        OBPageDTO<OBConfigDTO> page = page(pageSize);
+        OBBaseResponseDTO<OBPageDTO<OBConfigDTO>> envelope = OBBaseResponseDTO.<OBPageDTO<OBConfigDTO>>builder()
+                .clientTraceNo("trace-0001")
+                .success(true)
+                .statusCode("200")
+                .statusDescription("OK")
+                .message("Found " + pageSize + " of 1000 configuration properties matching criteria")
+                .reqData(page)
+                .build();
+
+        JsonMapper blackbird = JsonMapper.builder().addModule(new BlackbirdModule()).build();
+        JacksonJsonHttpMessageConverter jackson = new JacksonJsonHttpMessageConverter(JsonMapper.builder().build());
+        JacksonJsonHttpMessageConverter jacksonBlackbird = new JacksonJsonHttpMessageConverter(blackbird);
+        EnvelopeHttpMessageConverter envelopeConverter = new EnvelopeHttpMessageConverter(new EnvelopeWriter(blackbird));
+        ResolvableType responseType = ResolvableType.forType(PAGE_RESPONSE);
+
+        List<Result> results = new ArrayList<>();
+        results.add(measure("Jackson converter", warmup, iterations, serialize(
+                output -> jackson.write(envelope, responseType, MediaType.APPLICATION_JSON, output, null))));
+        results.add(measure("Jackson converter + Blackbird", warmup, iterations, serialize(
+                output -> jacksonBlackbird.write(envelope, responseType, MediaType.APPLICATION_JSON, output, null))));
+        results.add(measure("Envelope converter + Blackbird", warmup, iterations, serialize(
+                output -> envelopeConverter.write(envelope, PAGE_RESPONSE, MediaType.APPLICATION_JSON, output))));
+        results.add(measure("Message, String.format", warmup, iterations,
+                () -> String.format("Found %d of %d configuration properties matching criteria",
+                        page.getDataList().size(), page.getTotalRecords()).length()));
+        results.add(measure("Message, concatenation", warmup, iterations,
+                () -> ("Found " + page.getDataList().size() + " of " + page.getTotalRecords()
+                        + " configuration properties matching criteria").length()));
+
+        System.out.printf("%nPage of %d OBConfigDTO, %d iterations%n", pageSize, iterations);
+        System.out.printf("%-32s %14s %12s%n", "case", "bytes/op", "ns/op");
+        for (Result result : results) {
+            System.out.printf(Locale.ROOT, "%-32s %14d %12.0f%n", result.name, result.bytesPerOp, result.nanosPerOp);
+        }
+    }
+
+    private static LongSupplier serialize(Write write) {
+        HttpOutputMessage output = new DiscardingOutputMessage();
+        return () -> {
+            try {
+                write.to(output);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            return 0;
+        };
+    }
+
+    private static Result measure(String name, int warmup, int iterations, LongSupplier operation) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long total = 0;
+        for (int i = 0; i < warmup; i++) {
+            total += operation.getAsLong();
+        }
+
+        long bytesBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            total += operation.getAsLong();
+        }
+        long nanos = System.nanoTime() - start;
+        long bytes = threads.getCurrentThreadAllocatedBytes() - bytesBefore;
+        sink += total;
+        return new Result(name, bytes / iterations, nanos / (double) iterations);
+    }
+
+    private static OBPageDTO<OBConfigDTO> page(int pageSize) {
+        List<OBConfigDTO> configs = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            OBConfigDTO config = new OBConfigDTO();
+            config.setId((long) i + 1);
+            config.setPropKey("service.module" + i + ".timeout-ms");
+            config.setDevValue("1000");
+            config.setSitValue("2000");
+            config.setUatValue("3000");
+            config.setProdValue("5000");
+            config.setDescription("Timeout of module " + i + " in milliseconds");
+            config.setCategory("timeouts");
+            config.setDataType("INTEGER");
+            config.setIsSensitive(false);
+            config.setCreatedOn(LocalDateTime.of(2026, 1, 1, 9, 0));
+            config.setUpdatedOn(LocalDateTime.of(2026, 10, 18, 9, 0));
+            configs.add(config);
+        }
+        return OBPageDTO.<OBConfigDTO>builder()
+                .totalRecords(1000)
+                .totalPages(1000 / pageSize)
+                .currentPage(1)
+                .pageSize(pageSize)
+                .dataList(configs)
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface Write {
+
+        void to(HttpOutputMessage output) throws IOException;
+    }
+
+    private record Result(String name, long bytesPerOp, double nanosPerOp) {
+    }
+
+    private static final class DiscardingOutputMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private final OutputStream body = OutputStream.nullOutputStream();
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
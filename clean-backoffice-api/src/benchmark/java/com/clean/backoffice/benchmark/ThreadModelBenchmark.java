@@ -0,0 +1,214 @@
+package com.clean.backoffice.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Closed-loop HTTP load driver comparing running backoffice instances, typically one started
+ * with {@code spring.threads.virtual.enabled=false} (platform pool, {@code server.jetty.threads.max})
+ * and one with {@code true}, against the same database.
+ * <p>
+ * For every {@code --url}, {@code --concurrency} clients send requests back to back for
+ * {@code --warmup-seconds} (discarded) and then {@code --duration-seconds}, and the throughput,
+ * error count and latency percentiles are printed side by side. Clients run on virtual threads
+ * so the driver itself is not limited by a thread pool.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew threadModelBenchmark -PbenchmarkArgs="--url http://localhost:8081/backoffice/api/v1/config/findPageByCriteria
+ *     --url http://localhost:8082/backoffice/api/v1/config/findPageByCriteria
+ *     --method POST --body {\"reqData\":{\"currentPage\":1,\"pageSize\":50}} --concurrency 2000"
+ * </pre>
+ */
+public final class ThreadModelBenchmark {
+
+    private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+
+    private ThreadModelBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        List<Result> results = new ArrayList<>();
+        for (String url : options.urls) {
+            System.out.printf("Running %s: %d clients, %ds warm-up, %ds measured%n",
+                    url, options.concurrency, options.warmupSeconds, options.durationSeconds);
+            run(url, options, options.warmupSeconds);
+            results.add(run(url, options, options.durationSeconds));
+        }
+        print(results);
+    }
+
+    private static Result run(String url, Options options, int seconds) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(options.timeoutSeconds))
+                .header("Accept", "application/json");
+        if ("POST".equals(options.method)) {
+            request.header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(options.body));
+        } else {
+            request.GET();
+        }
+        HttpRequest prepared = request.build();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        List<Future<Recorder>> clients = new ArrayList<>(options.concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.concurrency; i++) {
+                clients.add(executor.submit(() -> {
+                    Recorder recorder = new Recorder();
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        boolean ok;
+                        try {
+                            HttpResponse<Void> response = client.send(prepared, HttpResponse.BodyHandlers.discarding());
+                            ok = response.statusCode() < 400;
+                        } catch (Exception e) {
+                            ok = false;
+                        }
+                        recorder.record(System.nanoTime() - start, ok);
+                    }
+                    return recorder;
+                }));
+            }
+        }
+
+        Recorder total = new Recorder();
+        for (Future<Recorder> result : clients) {
+            total.merge(result.get());
+        }
+        return new Result(url, seconds, total);
+    }
+
+    private static void print(List<Result> results) {
+        StringBuilder header = new StringBuilder(String.format("%-12s", "metric"));
+        for (int i = 0; i < results.size(); i++) {
+            header.append(String.format(" %16s", "url#" + (i + 1)));
+        }
+        System.out.println();
+        System.out.println(header);
+        row(results, "req/s", r -> String.format(Locale.ROOT, "%.0f", r.recorder.count / (double) r.seconds));
+        row(results, "errors", r -> String.valueOf(r.recorder.errors));
+        for (double percentile : PERCENTILES) {
+            row(results, "p" + trim(percentile) + " ms", r -> millis(r.recorder.percentile(percentile)));
+        }
+        row(results, "max ms", r -> millis(r.recorder.percentile(100)));
+        for (int i = 0; i < results.size(); i++) {
+            System.out.printf("url#%d = %s%n", i + 1, results.get(i).url);
+        }
+    }
+
+    private static void row(List<Result> results, String name, Function<Result, String> value) {
+        StringBuilder line = new StringBuilder(String.format("%-12s", name));
+        for (Result result : results) {
+            line.append(String.format(" %16s", value.apply(result)));
+        }
+        System.out.println(line);
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+
+    private static String trim(double value) {
+        return value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value);
+    }
+
+    private record Result(String url, int seconds, Recorder recorder) {
+    }
+
+    /**
+     * Latencies of one client, later merged. Plain arrays keep the driver's own allocation and
+     * GC out of the measured latencies.
+     */
+    private static final class Recorder {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        void record(long nanos, boolean ok) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        void merge(Recorder other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, count + other.count);
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            errors += other.errors;
+        }
+
+        long percentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+            return sorted[Math.max(0, Math.min(index, count - 1))];
+        }
+    }
+
+    private static final class Options {
+
+        private final List<String> urls = new ArrayList<>();
+        private String method = "GET";
+        private String body = "";
+        private int concurrency = 1000;
+        private int warmupSeconds = 15;
+        private int durationSeconds = 60;
+        private int timeoutSeconds = 30;
+
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String value = i + 1 < args.length ? args[i + 1] : null;
+                switch (args[i]) {
+                    case "--url" -> options.urls.add(required(args[i], value));
+                    case "--method" -> options.method = required(args[i], value).toUpperCase(Locale.ROOT);
+                    case "--body" -> options.body = required(args[i], value);
+                    case "--concurrency" -> options.concurrency = Integer.parseInt(required(args[i], value));
+                    case "--warmup-seconds" -> options.warmupSeconds = Integer.parseInt(required(args[i], value));
+                    case "--duration-seconds" -> options.durationSeconds = Integer.parseInt(required(args[i], value));
+                    case "--timeout-seconds" -> options.timeoutSeconds = Integer.parseInt(required(args[i], value));
+                    default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+                i++;
+            }
+            if (options.urls.isEmpty()) {
+                throw new IllegalArgumentException("At least one --url is required");
+            }
+            return options;
+        }
+
+        private static String required(String option, String value) {
+            if (value == null) {
+                throw new IllegalArgumentException(option + " needs a value");
+            }
+            return value;
+        }
+    }
+}
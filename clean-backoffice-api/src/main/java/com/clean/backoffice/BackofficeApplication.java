@@ -22,8 +22,13 @@ import org.springframework.stereotype.Controller;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.clean.common.config.EnableDatabaseConcurrencyLimit;
+import com.clean.common.config.EnableSecondLevelCache;
+
 @SpringBootApplication
 @EnableAspectJAutoProxy
+@EnableSecondLevelCache
+@EnableDatabaseConcurrencyLimit
 @ComponentScans({
 		// Controllers
 		@ComponentScan(basePackages = "${com.clean.controller.packages:com.clean.backoffice}", includeFilters = {
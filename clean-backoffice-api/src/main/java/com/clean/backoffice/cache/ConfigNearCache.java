@@ -0,0 +1,246 @@
+package com.clean.backoffice.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.clean.backoffice.entity.CleanConfigEntity;
+import com.clean.common.base.cache.EntityVersionChangedEvent;
+import com.clean.common.base.cache.SecondLevelCacheEvictor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Two-tier cache for {@code CleanConfigService} reads.
+ * <p>
+ * Lookups go to a bounded in-process cache first, then to the {@link ConfigSharedCache}
+ * shared by all pods, and only then to the database. A new replica therefore warms itself
+ * from the shared tier instead of the database. Writes evict the affected keys from the
+ * shared tier after commit and broadcast them so every pod drops its local copy.
+ * </p>
+ * <p>
+ * A load that overlaps an invalidation is returned but not cached, so a slow reader cannot
+ * put a pre-commit value back after the writer evicted it. The local TTL bounds staleness
+ * if an invalidation message is lost.
+ * </p>
+ * <p>
+ * Every invalidation, received over the shared tier or as a version change, first evicts the
+ * Hibernate second-level cache of {@link CleanConfigEntity} in this pod: the reload that
+ * follows must read the other pod's write, not the old row, before it is put back into the
+ * shared tier for everyone. Loaders must read from the database for the same reason.
+ * </p>
+ * <p>
+ * Any config version change, including one detected through the database version row,
+ * also drops every local entry, so deployments without Redis stay coherent across pods.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ConfigNearCache {
+
+    public static final String ALL_KEY = "all";
+    private static final String PROP_KEY_PREFIX = "key:";
+
+    private final boolean enabled;
+    private final Cache<String, Object> local;
+    private final ConfigSharedCache sharedCache;
+    private final JsonMapper jsonMapper;
+    private final SecondLevelCacheEvictor secondLevelCacheEvictor;
+
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder sharedHits = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder invalidationsReceived = new LongAdder();
+
+    public ConfigNearCache(
+            ConfigSharedCache sharedCache,
+            JsonMapper jsonMapper,
+            SecondLevelCacheEvictor secondLevelCacheEvictor,
+            @Value("${clean.cache.near.enabled:true}") boolean enabled,
+            @Value("${clean.cache.near.max-entries:10000}") long maxEntries,
+            @Value("${clean.cache.near.ttl-seconds:60}") long ttlSeconds) {
+
+        this.sharedCache = sharedCache;
+        this.jsonMapper = jsonMapper;
+        this.secondLevelCacheEvictor = secondLevelCacheEvictor;
+        this.enabled = enabled;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        sharedCache.subscribe(this::onInvalidation);
+        log.info("ConfigNearCache initialized: enabled={}, shared tier={}, maxEntries={}, ttl={}s",
+                enabled, sharedCache.getClass().getSimpleName(), maxEntries, ttlSeconds);
+    }
+
+    public static String propKey(String propKey) {
+        return PROP_KEY_PREFIX + propKey;
+    }
+
+    /**
+     * Returns the keys to invalidate after writing the given properties: each key plus the
+     * full list.
+     */
+    public static List<String> keysOf(String... propKeys) {
+        List<String> keys = new ArrayList<>(propKeys.length + 1);
+        keys.add(ALL_KEY);
+        for (String key : propKeys) {
+            if (key != null) {
+                keys.add(propKey(key));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the cached value for the key, loading it from the shared tier or the loader on
+     * a miss. Null values are not cached. Bypasses the cache inside read-write transactions.
+     *
+     * @param key    cache key, see {@link #propKey(String)} and {@link #ALL_KEY}
+     * @param type   type used to deserialize values from the shared tier
+     * @param loader loads the value from the database, bypassing the second-level cache
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Class<T> type, Supplier<T> loader) {
+        if (!enabled || isReadWriteTransaction()) {
+            return loader.get();
+        }
+
+        Object cached = local.getIfPresent(key);
+        if (cached != null) {
+            localHits.increment();
+            return (T) cached;
+        }
+
+        long observed = generation.get();
+        T shared = readShared(key, type);
+        if (shared != null) {
+            sharedHits.increment();
+            putLocal(key, shared, observed);
+            return shared;
+        }
+
+        loads.increment();
+        T loaded = loader.get();
+        if (loaded != null && putLocal(key, loaded, observed)) {
+            writeShared(key, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Evicts the keys everywhere once the current transaction commits, or immediately when
+     * no transaction synchronization is active.
+     */
+    public void invalidateAfterCommit(Collection<String> keys) {
+        Set<String> distinct = Set.copyOf(keys);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(distinct);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(distinct);
+            }
+        });
+    }
+
+    public ConfigNearCacheStats stats() {
+        long hits = localHits.sum();
+        long requests = hits + sharedHits.sum() + loads.sum();
+        return new ConfigNearCacheStats(
+                hits,
+                sharedHits.sum(),
+                loads.sum(),
+                requests == 0 ? 1.0 : (double) hits / requests,
+                local.stats().evictionCount(),
+                local.estimatedSize(),
+                invalidationsReceived.sum());
+    }
+
+    @EventListener
+    public void onEntityVersionChanged(EntityVersionChangedEvent event) {
+        if (event.entityType() != CleanConfigEntity.class) {
+            return;
+        }
+        secondLevelCacheEvictor.evict(CleanConfigEntity.class);
+        generation.incrementAndGet();
+        local.invalidateAll();
+        sharedCache.onExternalChange();
+    }
+
+    private void invalidate(Collection<String> keys) {
+        evictLocal(keys);
+        try {
+            sharedCache.evict(keys);
+            sharedCache.publishInvalidation(keys);
+        } catch (RuntimeException e) {
+            log.error("Failed to invalidate config keys {} in shared cache; other pods stay stale for up to the TTL",
+                    keys, e);
+        }
+    }
+
+    private void onInvalidation(Collection<String> keys) {
+        invalidationsReceived.increment();
+        // Before the generation moves, so a load that may be cached reads past the old row
+        secondLevelCacheEvictor.evict(CleanConfigEntity.class);
+        evictLocal(keys);
+    }
+
+    private void evictLocal(Collection<String> keys) {
+        generation.incrementAndGet();
+        local.invalidateAll(keys);
+    }
+
+    private boolean putLocal(String key, Object value, long observedGeneration) {
+        if (generation.get() != observedGeneration) {
+            log.debug("Config cache key {} invalidated during load, not caching", key);
+            return false;
+        }
+        local.put(key, value);
+        return true;
+    }
+
+    private <T> T readShared(String key, Class<T> type) {
+        try {
+            return sharedCache.get(key)
+                    .map(json -> jsonMapper.readValue(json, type))
+                    .orElse(null);
+        } catch (RuntimeException e) {
+            log.warn("Shared config cache read failed for {}, falling back to database: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeShared(String key, Object value) {
+        try {
+            sharedCache.put(key, jsonMapper.writeValueAsString(value));
+        } catch (RuntimeException e) {
+            log.warn("Shared config cache write failed for {}: {}", key, e.getMessage());
+        }
+    }
+
+    private static boolean isReadWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
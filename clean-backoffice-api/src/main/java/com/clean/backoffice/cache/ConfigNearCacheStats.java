@@ -0,0 +1,22 @@
+package com.clean.backoffice.cache;
+
+/**
+ * Point-in-time statistics of the config near-cache.
+ *
+ * @param localHits              lookups served from this pod's memory
+ * @param sharedHits             local misses served from the shared tier
+ * @param loads                  lookups that went to the database
+ * @param localHitRate           localHits / (localHits + sharedHits + loads)
+ * @param localEvictions         local entries evicted by size or TTL
+ * @param localSize              approximate number of local entries
+ * @param invalidationsReceived  invalidation messages applied by this pod
+ */
+public record ConfigNearCacheStats(
+        long localHits,
+        long sharedHits,
+        long loads,
+        double localHitRate,
+        long localEvictions,
+        long localSize,
+        long invalidationsReceived) {
+}
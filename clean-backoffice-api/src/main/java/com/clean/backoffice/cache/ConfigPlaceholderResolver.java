@@ -0,0 +1,328 @@
+package com.clean.backoffice.cache;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+
+import com.clean.backoffice.constant.ConfigEnvironment;
+import com.clean.backoffice.crypto.ConfigValueCipher;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resolves {@code ${other.key}} and {@code ${other.key:default}} placeholders between keys of
+ * the same environment.
+ * <p>
+ * Per environment it keeps a dependency graph of the keys whose values contain placeholders,
+ * together with their memoized resolved values, so a read is a single map lookup and never
+ * builds anything. {@link ConfigSnapshotHolder} advances the graph on every snapshot swap,
+ * before publishing the snapshot: only the changed keys and their transitive dependents are
+ * re-resolved, the new graph is built copy-on-write and published with one volatile store. The
+ * graph of the previous snapshot is kept, so a reader still holding it stays consistent.
+ * </p>
+ * <p>
+ * Keys taking part in a cycle are logged and served unresolved, and references to them, to
+ * missing keys without a default or to encrypted values are left as written.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConfigPlaceholderResolver {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([^}:]+)(?::([^}]*))?}");
+
+    private final ConfigValueDecoder valueDecoder;
+
+    // A lock rather than synchronized: advancing runs inside the holder's refresh, which may be on a virtual thread
+    private final ReentrantLock graphLock = new ReentrantLock();
+
+    private volatile Graphs graphs = new Graphs(Graph.empty(), null);
+
+    public static boolean hasPlaceholders(String rawValue) {
+        return rawValue != null && !ConfigValueCipher.isEncrypted(rawValue) && rawValue.contains("${");
+    }
+
+    /**
+     * Returns the decoded value of the entry with its placeholders resolved against {@code snapshot}.
+     * Entries without placeholders are returned as decoded in the snapshot.
+     */
+    public Object resolve(ConfigSnapshot snapshot, ConfigSnapshotEntry entry, ConfigEnvironment environment) {
+        if (!hasPlaceholders(entry.rawValue(environment))) {
+            return entry.decodedValue(environment);
+        }
+
+        Resolved resolved = graphs.of(snapshot).environments.get(environment).resolved.get(entry.propKey());
+        return resolved != null ? resolved.value() : entry.decodedValue(environment);
+    }
+
+    /**
+     * Moves the graph to {@code snapshot}, re-resolving only the changed and removed keys and
+     * their dependents when the graph is at the preceding version, rebuilding it otherwise.
+     */
+    public void advance(ConfigSnapshot snapshot, Collection<ConfigSnapshotEntry> changed,
+            Collection<String> removedKeys) {
+        graphLock.lock();
+        try {
+            Graph current = graphs.current();
+            Graph next;
+            if (current.version >= 0 && current.version == snapshot.getVersion() - 1) {
+                Set<String> affected = new HashSet<>(removedKeys);
+                for (ConfigSnapshotEntry entry : changed) {
+                    affected.add(entry.propKey());
+                }
+                // A full refresh that found nothing new only moves the version
+                next = affected.isEmpty() ? new Graph(snapshot.getVersion(), current.environments)
+                        : current.update(snapshot, affected, valueDecoder);
+            } else {
+                next = Graph.build(snapshot, valueDecoder);
+            }
+            graphs = new Graphs(next, current);
+        } finally {
+            graphLock.unlock();
+        }
+    }
+
+    /**
+     * Builds the graph of a snapshot swapped in without a diff, e.g. mapped from the snapshot
+     * file on startup.
+     */
+    public void rebuild(ConfigSnapshot snapshot) {
+        graphLock.lock();
+        try {
+            graphs = new Graphs(Graph.build(snapshot, valueDecoder), graphs.current());
+        } finally {
+            graphLock.unlock();
+        }
+    }
+
+    /**
+     * The graph of the current snapshot and of the one before it, published together.
+     */
+    private record Graphs(Graph current, Graph previous) {
+
+        /**
+         * Returns the graph of {@code snapshot}; a reader that held a snapshot across two
+         * refreshes gets the current graph.
+         */
+        Graph of(ConfigSnapshot snapshot) {
+            if (previous != null && previous.version == snapshot.getVersion()) {
+                return previous;
+            }
+            return current;
+        }
+    }
+
+    private record Resolved(String text, Object value, boolean cyclic) {
+    }
+
+    private static final class Graph {
+
+        private final long version;
+        private final Map<ConfigEnvironment, EnvironmentGraph> environments;
+
+        private Graph(long version, Map<ConfigEnvironment, EnvironmentGraph> environments) {
+            this.version = version;
+            this.environments = environments;
+        }
+
+        static Graph empty() {
+            Map<ConfigEnvironment, EnvironmentGraph> environments = new EnumMap<>(ConfigEnvironment.class);
+            for (ConfigEnvironment environment : ConfigEnvironment.values()) {
+                environments.put(environment, new EnvironmentGraph(environment));
+            }
+            return new Graph(-1, environments);
+        }
+
+        static Graph build(ConfigSnapshot snapshot, ConfigValueDecoder decoder) {
+            Map<ConfigEnvironment, EnvironmentGraph> environments = new EnumMap<>(ConfigEnvironment.class);
+            for (ConfigEnvironment environment : ConfigEnvironment.values()) {
+                EnvironmentGraph built = new EnvironmentGraph(environment);
+                for (ConfigSnapshotEntry entry : snapshot.entries()) {
+                    built.link(entry.propKey(), entry.rawValue(environment));
+                }
+                built.resolveAll(built.dependencies.keySet(), snapshot, decoder);
+                environments.put(environment, built);
+            }
+            log.debug("Built placeholder graph for snapshot v{}", snapshot.getVersion());
+            return new Graph(snapshot.getVersion(), environments);
+        }
+
+        Graph update(ConfigSnapshot snapshot, Set<String> affected, ConfigValueDecoder decoder) {
+            Map<ConfigEnvironment, EnvironmentGraph> updated = new EnumMap<>(ConfigEnvironment.class);
+            int reresolved = 0;
+            for (Map.Entry<ConfigEnvironment, EnvironmentGraph> e : environments.entrySet()) {
+                ConfigEnvironment environment = e.getKey();
+                EnvironmentGraph copy = e.getValue().copy();
+                for (String propKey : affected) {
+                    copy.unlink(propKey);
+                    snapshot.find(propKey).ifPresent(entry -> copy.link(propKey, entry.rawValue(environment)));
+                }
+
+                Set<String> stale = copy.withDependents(affected);
+                copy.resolved.keySet().removeAll(stale);
+                stale.retainAll(copy.dependencies.keySet());
+                copy.resolveAll(stale, snapshot, decoder);
+                reresolved += stale.size();
+                updated.put(environment, copy);
+            }
+            log.debug("Re-resolved {} placeholder values for snapshot v{}", reresolved, snapshot.getVersion());
+            return new Graph(snapshot.getVersion(), updated);
+        }
+    }
+
+    private static final class EnvironmentGraph {
+
+        private final ConfigEnvironment environment;
+        /** Keys with placeholders and the keys they reference. */
+        private final Map<String, Set<String>> dependencies;
+        /** Referenced keys and the keys referencing them. */
+        private final Map<String, Set<String>> dependents;
+        private final Map<String, Resolved> resolved;
+
+        EnvironmentGraph(ConfigEnvironment environment) {
+            this(environment, new HashMap<>(), new HashMap<>(), new HashMap<>());
+        }
+
+        private EnvironmentGraph(ConfigEnvironment environment, Map<String, Set<String>> dependencies,
+                Map<String, Set<String>> dependents, Map<String, Resolved> resolved) {
+            this.environment = environment;
+            this.dependencies = dependencies;
+            this.dependents = dependents;
+            this.resolved = resolved;
+        }
+
+        EnvironmentGraph copy() {
+            Map<String, Set<String>> dependentsCopy = new HashMap<>(dependents.size() * 2);
+            dependents.forEach((key, keys) -> dependentsCopy.put(key, new HashSet<>(keys)));
+            // Dependency sets are replaced, never mutated, so they can be shared
+            return new EnvironmentGraph(environment, new HashMap<>(dependencies), dependentsCopy,
+                    new HashMap<>(resolved));
+        }
+
+        void link(String propKey, String rawValue) {
+            if (!hasPlaceholders(rawValue)) {
+                return;
+            }
+            Set<String> references = new LinkedHashSet<>();
+            Matcher matcher = PLACEHOLDER.matcher(rawValue);
+            while (matcher.find()) {
+                references.add(matcher.group(1).trim());
+            }
+            if (references.isEmpty()) {
+                return;
+            }
+            dependencies.put(propKey, Set.copyOf(references));
+            for (String reference : references) {
+                dependents.computeIfAbsent(reference, k -> new HashSet<>()).add(propKey);
+            }
+        }
+
+        void unlink(String propKey) {
+            Set<String> references = dependencies.remove(propKey);
+            if (references == null) {
+                return;
+            }
+            for (String reference : references) {
+                Set<String> keys = dependents.get(reference);
+                if (keys != null) {
+                    keys.remove(propKey);
+                    if (keys.isEmpty()) {
+                        dependents.remove(reference);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Returns the given keys plus every key transitively depending on them.
+         */
+        Set<String> withDependents(Collection<String> keys) {
+            Set<String> result = new HashSet<>(keys);
+            Deque<String> queue = new ArrayDeque<>(keys);
+            while (!queue.isEmpty()) {
+                for (String dependent : dependents.getOrDefault(queue.poll(), Set.of())) {
+                    if (result.add(dependent)) {
+                        queue.add(dependent);
+                    }
+                }
+            }
+            return result;
+        }
+
+        void resolveAll(Collection<String> propKeys, ConfigSnapshot snapshot, ConfigValueDecoder decoder) {
+            Set<String> cyclic = new LinkedHashSet<>();
+            for (String propKey : List.copyOf(propKeys)) {
+                resolve(propKey, snapshot, decoder, new ArrayList<>(), cyclic);
+            }
+            if (!cyclic.isEmpty()) {
+                log.warn("Placeholder cycle between {} in {}; serving these values unresolved", cyclic, environment);
+            }
+        }
+
+        /**
+         * Depth-first resolution. {@code path} holds the keys being resolved, so meeting one of
+         * them again closes a cycle.
+         *
+         * @return the resolved text, or null when the key is missing, encrypted or in a cycle
+         */
+        private String resolve(String propKey, ConfigSnapshot snapshot, ConfigValueDecoder decoder,
+                List<String> path, Set<String> cyclic) {
+            Resolved memo = resolved.get(propKey);
+            if (memo != null) {
+                return memo.cyclic() ? null : memo.text();
+            }
+
+            ConfigSnapshotEntry entry = snapshot.find(propKey).orElse(null);
+            String rawValue = entry != null ? entry.rawValue(environment) : null;
+            if (rawValue == null || ConfigValueCipher.isEncrypted(rawValue)) {
+                return null;
+            }
+            if (!dependencies.containsKey(propKey)) {
+                return rawValue;
+            }
+
+            int index = path.indexOf(propKey);
+            if (index >= 0) {
+                cyclic.addAll(path.subList(index, path.size()));
+                return null;
+            }
+
+            path.add(propKey);
+            StringBuilder text = new StringBuilder(rawValue.length() + 32);
+            Matcher matcher = PLACEHOLDER.matcher(rawValue);
+            while (matcher.find()) {
+                String value = resolve(matcher.group(1).trim(), snapshot, decoder, path, cyclic);
+                if (value == null) {
+                    value = matcher.group(2) != null ? matcher.group(2) : matcher.group();
+                }
+                matcher.appendReplacement(text, Matcher.quoteReplacement(value));
+            }
+            matcher.appendTail(text);
+            path.remove(path.size() - 1);
+
+            if (cyclic.contains(propKey)) {
+                resolved.put(propKey, new Resolved(rawValue, entry.decodedValue(environment), true));
+                return null;
+            }
+            String resolvedText = text.toString();
+            resolved.put(propKey,
+                    new Resolved(resolvedText, decoder.decode(propKey, resolvedText, entry.dataType()), false));
+            return resolvedText;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.clean.backoffice.cache;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Shared tier behind {@link ConfigNearCache}: one store for all backoffice pods plus a
+ * broadcast channel for invalidations. Values are opaque serialized strings.
+ */
+public interface ConfigSharedCache {
+
+    Optional<String> get(String key);
+
+    void put(String key, String value);
+
+    void evict(Collection<String> keys);
+
+    /**
+     * Broadcasts the keys to every subscriber, including those in this pod.
+     */
+    void publishInvalidation(Collection<String> keys);
+
+    void subscribe(Consumer<Collection<String>> listener);
+
+    /**
+     * Called when config was changed by an instance that could not reach this tier, as seen
+     * through the database version row. Tiers that cannot have received the invalidation
+     * must drop their entries.
+     */
+    void onExternalChange();
+}
@@ -0,0 +1,136 @@
+package com.clean.backoffice.cache;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable, point-in-time copy of TBL_CLEAN_CONFIG keyed by {@code propKey}.
+ * <p>
+ * A snapshot is never modified after construction; refreshes build a new one and swap the
+ * reference in {@link ConfigSnapshotHolder}, so readers need neither locks nor the database.
+ * </p>
+ * <p>
+ * Snapshots built from the database hold their entries in heap maps. Snapshots mapped from a
+ * {@link ConfigSnapshotFile} look keys up in the file's sorted index and read entries on first
+ * use.
+ * </p>
+ */
+public final class ConfigSnapshot {
+
+    private static final ConfigSnapshot EMPTY = new ConfigSnapshot(0L, Map.of(), null, Instant.EPOCH);
+
+    private final long version;
+    private final ConfigSnapshotIndex index;
+    private final LocalDateTime watermark;
+    private final Instant loadedAt;
+
+    public ConfigSnapshot(long version, Map<String, ConfigSnapshotEntry> entries, LocalDateTime watermark, Instant loadedAt) {
+        this(version, new HeapIndex(entries), watermark, loadedAt);
+    }
+
+    ConfigSnapshot(long version, ConfigSnapshotIndex index, LocalDateTime watermark, Instant loadedAt) {
+        this.version = version;
+        this.index = index;
+        this.watermark = watermark;
+        this.loadedAt = loadedAt;
+    }
+
+    public static ConfigSnapshot empty() {
+        return EMPTY;
+    }
+
+    public Optional<ConfigSnapshotEntry> find(String propKey) {
+        return propKey == null ? Optional.empty() : Optional.ofNullable(index.find(propKey));
+    }
+
+    /**
+     * Returns the key currently held by the row with the given id, or null. Used to drop the
+     * old key when a delta shows that a row's {@code propKey} was renamed.
+     */
+    public String keyOf(Long id) {
+        return id == null ? null : index.keyOf(id);
+    }
+
+    public Collection<ConfigSnapshotEntry> entries() {
+        return index.entries();
+    }
+
+    /**
+     * Returns a mutable copy of the entries keyed by {@code propKey}, to build the next snapshot
+     * from.
+     */
+    public Map<String, ConfigSnapshotEntry> copyEntries() {
+        Map<String, ConfigSnapshotEntry> copy = new HashMap<>(size() * 2);
+        for (ConfigSnapshotEntry entry : entries()) {
+            copy.put(entry.propKey(), entry);
+        }
+        return copy;
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Monotonic snapshot number, incremented on every swap.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Highest {@code updated_on} contained in this snapshot, or null when empty.
+     */
+    public LocalDateTime getWatermark() {
+        return watermark;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    private static final class HeapIndex extends ConfigSnapshotIndex {
+
+        private final Map<String, ConfigSnapshotEntry> entries;
+        private final Map<Long, String> keysById;
+
+        HeapIndex(Map<String, ConfigSnapshotEntry> entries) {
+            this.entries = Map.copyOf(entries);
+            this.keysById = indexById(this.entries);
+        }
+
+        @Override
+        ConfigSnapshotEntry find(String propKey) {
+            return entries.get(propKey);
+        }
+
+        @Override
+        String keyOf(long id) {
+            return keysById.get(id);
+        }
+
+        @Override
+        Collection<ConfigSnapshotEntry> entries() {
+            return entries.values();
+        }
+
+        @Override
+        int size() {
+            return entries.size();
+        }
+
+        private static Map<Long, String> indexById(Map<String, ConfigSnapshotEntry> entries) {
+            Map<Long, String> index = new HashMap<>(entries.size() * 2);
+            for (ConfigSnapshotEntry entry : entries.values()) {
+                if (entry.id() != null) {
+                    index.put(entry.id(), entry.propKey());
+                }
+            }
+            return Map.copyOf(index);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.clean.backoffice.cache;
+
+import java.util.List;
+
+/**
+ * Published by {@link ConfigSnapshotHolder} after swapping in a snapshot that differs from the
+ * previous one.
+ *
+ * @param snapshot    the new snapshot
+ * @param changed     entries added or modified, oldest {@code updatedOn} first
+ * @param removedKeys keys no longer present (deleted rows or renamed keys)
+ */
+public record ConfigSnapshotChangedEvent(
+        ConfigSnapshot snapshot,
+        List<ConfigSnapshotEntry> changed,
+        List<String> removedKeys) {
+
+    public ConfigSnapshotChangedEvent {
+        changed = List.copyOf(changed);
+        removedKeys = List.copyOf(removedKeys);
+    }
+}
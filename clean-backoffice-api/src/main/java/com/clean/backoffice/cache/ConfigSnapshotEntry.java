@@ -0,0 +1,34 @@
+package com.clean.backoffice.cache;
+
+import java.time.LocalDateTime;
+
+import com.clean.backoffice.constant.ConfigEnvironment;
+
+/**
+ * Immutable view of one TBL_CLEAN_CONFIG row inside a {@link ConfigSnapshot}.
+ *
+ * @param id        the row id
+ * @param propKey   the property key
+ * @param category  the category
+ * @param dataType  the declared data type
+ * @param sensitive whether the value is sensitive
+ * @param updatedOn last update timestamp of the row
+ * @param values    raw and decoded values per environment, on-heap or memory-mapped
+ */
+public record ConfigSnapshotEntry(
+        Long id,
+        String propKey,
+        String category,
+        String dataType,
+        boolean sensitive,
+        LocalDateTime updatedOn,
+        ConfigValues values) {
+
+    public Object decodedValue(ConfigEnvironment environment) {
+        return values.decoded(environment);
+    }
+
+    public String rawValue(ConfigEnvironment environment) {
+        return values.raw(environment);
+    }
+}
@@ -0,0 +1,44 @@
+package com.clean.backoffice.cache;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.clean.backoffice.constant.ConfigEnvironment;
+import com.clean.backoffice.dto.OBConfigDTO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Builds {@link ConfigSnapshotEntry} instances, decoding every environment value exactly once.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConfigSnapshotEntryFactory {
+
+    private final ConfigValueDecoder valueDecoder;
+
+    public ConfigSnapshotEntry create(OBConfigDTO config) {
+        Map<ConfigEnvironment, String> rawValues = new EnumMap<>(ConfigEnvironment.class);
+        Map<ConfigEnvironment, Object> decodedValues = new EnumMap<>(ConfigEnvironment.class);
+
+        for (ConfigEnvironment environment : ConfigEnvironment.values()) {
+            String rawValue = environment.valueOf(config);
+            if (rawValue == null) {
+                continue;
+            }
+            rawValues.put(environment, rawValue);
+            decodedValues.put(environment, valueDecoder.decode(config.getPropKey(), rawValue, config.getDataType()));
+        }
+
+        return new ConfigSnapshotEntry(
+                config.getId(),
+                config.getPropKey(),
+                config.getCategory(),
+                config.getDataType(),
+                Boolean.TRUE.equals(config.getIsSensitive()),
+                config.getUpdatedOn(),
+                new HeapConfigValues(rawValues, decodedValues));
+    }
+}
@@ -0,0 +1,392 @@
+package com.clean.backoffice.cache;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.clean.backoffice.constant.ConfigEnvironment;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Binary on-disk form of a {@link ConfigSnapshot}, served through a {@link MappedByteBuffer}.
+ * <p>
+ * Values stay in the page cache instead of the Java heap and are decoded only when read (see
+ * {@link MappedConfigValues}). Keys are found by binary search over the sorted index and ids
+ * over the id index; an entry is read from the mapping on first lookup. On restart the last file is mapped instead of reloading the
+ * table, and a delta refresh from its watermark catches up. Files are written to a temporary
+ * file, forced to disk and moved into place, so readers never see a partial file.
+ * </p>
+ * <pre>
+ * header   int magic "CCFG", int format, long snapshot version,
+ *          long watermark epoch second (UTC, Long.MIN_VALUE if none), int watermark nanos, int count
+ * index    count x (int key offset, int record offset), sorted by unsigned UTF-8 key bytes
+ * id index count x (long id, int index slot), sorted by id (Long.MIN_VALUE for none)
+ * key      int length, UTF-8 bytes
+ * record   long id, long updated_on epoch second, int nanos, byte sensitive,
+ *          string category, string data type, one string per {@link ConfigEnvironment}
+ * string   int length (-1 for null), UTF-8 bytes
+ * </pre>
+ * Disabled when {@code clean.config.snapshot.file} is blank.
+ */
+@Slf4j
+@Component
+public class ConfigSnapshotFile {
+
+    private static final int MAGIC = 0x43434647;
+    private static final int FORMAT = 2;
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 8 + 4 + 4;
+    private static final int INDEX_ENTRY_BYTES = 4 + 4;
+    private static final int ID_INDEX_ENTRY_BYTES = 8 + 4;
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    private final ConfigValueDecoder decoder;
+    private final Path path;
+
+    public ConfigSnapshotFile(
+            ConfigValueDecoder decoder,
+            @Value("${clean.config.snapshot.file:}") String file) {
+        this.decoder = decoder;
+        this.path = file == null || file.isBlank() ? null : Path.of(file);
+        log.info("ConfigSnapshotFile initialized: {}", path != null ? path.toAbsolutePath() : "disabled");
+    }
+
+    public boolean isEnabled() {
+        return path != null;
+    }
+
+    /**
+     * Maps the last written snapshot, if any.
+     *
+     * @return the mapped snapshot, or empty when disabled, absent or unreadable
+     */
+    public Optional<ConfigSnapshot> load() {
+        if (path == null || !Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try {
+            ConfigSnapshot snapshot = map();
+            log.info("Mapped config snapshot v{} with {} properties from {} (watermark {})",
+                    snapshot.getVersion(), snapshot.size(), path, snapshot.getWatermark());
+            return Optional.of(snapshot);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable config snapshot file {}: {}", path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes the snapshot and returns an equal snapshot whose values are read from the mapping.
+     */
+    public ConfigSnapshot writeAndMap(ConfigSnapshot snapshot) throws IOException {
+        write(snapshot);
+        return map();
+    }
+
+    private void write(ConfigSnapshot snapshot) throws IOException {
+        List<IndexedEntry> sorted = new ArrayList<>(snapshot.size());
+        for (ConfigSnapshotEntry entry : snapshot.entries()) {
+            sorted.add(new IndexedEntry(entry, entry.propKey().getBytes(StandardCharsets.UTF_8)));
+        }
+        sorted.sort((a, b) -> Arrays.compareUnsigned(a.keyBytes, b.keyBytes));
+
+        List<IdSlot> idSlots = new ArrayList<>(sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            Long id = sorted.get(i).entry.id();
+            idSlots.add(new IdSlot(id != null ? id : Long.MIN_VALUE, i));
+        }
+        idSlots.sort((a, b) -> Long.compare(a.id, b.id));
+
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            int dataStart = HEADER_BYTES + sorted.size() * (INDEX_ENTRY_BYTES + ID_INDEX_ENTRY_BYTES);
+            int[] keyOffsets = new int[sorted.size()];
+            int[] recordOffsets = new int[sorted.size()];
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.write(new byte[dataStart]);
+                for (int i = 0; i < sorted.size(); i++) {
+                    IndexedEntry indexed = sorted.get(i);
+                    keyOffsets[i] = checkedOffset(out.size());
+                    out.writeInt(indexed.keyBytes.length);
+                    out.write(indexed.keyBytes);
+
+                    recordOffsets[i] = checkedOffset(out.size());
+                    writeRecord(out, indexed.entry);
+                }
+            }
+
+            ByteBuffer head = ByteBuffer.allocate(dataStart);
+            head.putInt(MAGIC).putInt(FORMAT).putLong(snapshot.getVersion());
+            putTimestamp(head, snapshot.getWatermark());
+            head.putInt(sorted.size());
+            for (int i = 0; i < sorted.size(); i++) {
+                head.putInt(keyOffsets[i]).putInt(recordOffsets[i]);
+            }
+            for (IdSlot idSlot : idSlots) {
+                head.putLong(idSlot.id).putInt(idSlot.slot);
+            }
+            head.flip();
+
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                long position = 0;
+                while (head.hasRemaining()) {
+                    position += channel.write(head, position);
+                }
+                channel.force(true);
+            }
+            move(temp);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private ConfigSnapshot map() throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a config snapshot file");
+        }
+        if (buffer.getInt(4) != FORMAT) {
+            throw new IOException("Unsupported config snapshot format " + buffer.getInt(4));
+        }
+
+        long version = buffer.getLong(8);
+        LocalDateTime watermark = getTimestamp(buffer, 16);
+        int count = buffer.getInt(28);
+        if (count < 0 || HEADER_BYTES + (long) count * (INDEX_ENTRY_BYTES + ID_INDEX_ENTRY_BYTES) > buffer.capacity()) {
+            throw new IOException("Corrupt config snapshot index");
+        }
+
+        return new ConfigSnapshot(version, new MappedIndex(buffer, count), watermark, Instant.now());
+    }
+
+    private static void writeRecord(DataOutputStream out, ConfigSnapshotEntry entry) throws IOException {
+        out.writeLong(entry.id() != null ? entry.id() : Long.MIN_VALUE);
+        LocalDateTime updatedOn = entry.updatedOn();
+        out.writeLong(updatedOn != null ? updatedOn.toEpochSecond(ZoneOffset.UTC) : NO_TIMESTAMP);
+        out.writeInt(updatedOn != null ? updatedOn.getNano() : 0);
+        out.writeByte(entry.sensitive() ? 1 : 0);
+        writeString(out, entry.category());
+        writeString(out, entry.dataType());
+        for (ConfigEnvironment environment : ConfigEnvironment.values()) {
+            writeString(out, entry.rawValue(environment));
+        }
+    }
+
+    private ConfigSnapshotEntry readRecord(ByteBuffer buffer, int offset, String propKey) {
+        long id = buffer.getLong(offset);
+        LocalDateTime updatedOn = getTimestamp(buffer, offset + 8);
+        boolean sensitive = buffer.get(offset + 20) != 0;
+
+        int position = offset + 21;
+        String category = getString(buffer, position);
+        position += stringBytes(buffer, position);
+        String dataType = getString(buffer, position);
+        position += stringBytes(buffer, position);
+
+        int[] valueOffsets = new int[ConfigEnvironment.values().length];
+        for (int i = 0; i < valueOffsets.length; i++) {
+            valueOffsets[i] = position;
+            position += stringBytes(buffer, position);
+        }
+
+        return new ConfigSnapshotEntry(
+                id == Long.MIN_VALUE ? null : id,
+                propKey,
+                category,
+                dataType,
+                sensitive,
+                updatedOn,
+                new MappedConfigValues(buffer, valueOffsets, decoder, propKey, dataType));
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer, int offset) {
+        int length = buffer.getInt(offset);
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(offset + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int stringBytes(ByteBuffer buffer, int offset) {
+        return Integer.BYTES + Math.max(0, buffer.getInt(offset));
+    }
+
+    private static void putTimestamp(ByteBuffer buffer, LocalDateTime timestamp) {
+        buffer.putLong(timestamp != null ? timestamp.toEpochSecond(ZoneOffset.UTC) : NO_TIMESTAMP);
+        buffer.putInt(timestamp != null ? timestamp.getNano() : 0);
+    }
+
+    private static LocalDateTime getTimestamp(ByteBuffer buffer, int offset) {
+        long epochSecond = buffer.getLong(offset);
+        return epochSecond == NO_TIMESTAMP ? null
+                : LocalDateTime.ofEpochSecond(epochSecond, buffer.getInt(offset + 8), ZoneOffset.UTC);
+    }
+
+    private static int checkedOffset(int offset) throws IOException {
+        // DataOutputStream.size() saturates at Integer.MAX_VALUE
+        if (offset == Integer.MAX_VALUE) {
+            throw new IOException("Config snapshot exceeds 2 GB");
+        }
+        return offset;
+    }
+
+    private void move(Path temp) throws IOException {
+        try {
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private record IndexedEntry(ConfigSnapshotEntry entry, byte[] keyBytes) {
+    }
+
+    private record IdSlot(long id, int slot) {
+    }
+
+    /**
+     * Index of a mapped file. Nothing is read up front; entries are read on first lookup and
+     * kept for the life of the snapshot.
+     */
+    private final class MappedIndex extends ConfigSnapshotIndex {
+
+        private final ByteBuffer buffer;
+        private final int count;
+        private final int idIndexStart;
+        private final AtomicReferenceArray<ConfigSnapshotEntry> entries;
+        private final List<ConfigSnapshotEntry> entryList;
+
+        MappedIndex(ByteBuffer buffer, int count) {
+            this.buffer = buffer;
+            this.count = count;
+            this.idIndexStart = HEADER_BYTES + count * INDEX_ENTRY_BYTES;
+            this.entries = new AtomicReferenceArray<>(count);
+            this.entryList = new AbstractList<>() {
+                @Override
+                public ConfigSnapshotEntry get(int slot) {
+                    return entry(slot);
+                }
+
+                @Override
+                public int size() {
+                    return MappedIndex.this.count;
+                }
+            };
+        }
+
+        @Override
+        ConfigSnapshotEntry find(String propKey) {
+            byte[] key = propKey.getBytes(StandardCharsets.UTF_8);
+            int low = 0;
+            int high = count - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int comparison = compareKey(middle, key);
+                if (comparison < 0) {
+                    low = middle + 1;
+                } else if (comparison > 0) {
+                    high = middle - 1;
+                } else {
+                    return entry(middle);
+                }
+            }
+            return null;
+        }
+
+        @Override
+        String keyOf(long id) {
+            int low = 0;
+            int high = count - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int offset = idIndexStart + middle * ID_INDEX_ENTRY_BYTES;
+                int comparison = Long.compare(buffer.getLong(offset), id);
+                if (comparison < 0) {
+                    low = middle + 1;
+                } else if (comparison > 0) {
+                    high = middle - 1;
+                } else {
+                    return entry(buffer.getInt(offset + 8)).propKey();
+                }
+            }
+            return null;
+        }
+
+        @Override
+        Collection<ConfigSnapshotEntry> entries() {
+            return entryList;
+        }
+
+        @Override
+        int size() {
+            return count;
+        }
+
+        private ConfigSnapshotEntry entry(int slot) {
+            ConfigSnapshotEntry entry = entries.get(slot);
+            if (entry == null) {
+                // Two readers may both read the slot; the entries are equal, either one is kept
+                int indexOffset = HEADER_BYTES + slot * INDEX_ENTRY_BYTES;
+                String propKey = getString(buffer, buffer.getInt(indexOffset));
+                entry = readRecord(buffer, buffer.getInt(indexOffset + 4), propKey);
+                entries.set(slot, entry);
+            }
+            return entry;
+        }
+
+        // Unsigned comparison of the key in the slot with the given UTF-8 bytes, without decoding it
+        private int compareKey(int slot, byte[] key) {
+            int keyOffset = buffer.getInt(HEADER_BYTES + slot * INDEX_ENTRY_BYTES);
+            int length = buffer.getInt(keyOffset);
+            int common = Math.min(length, key.length);
+            for (int i = 0; i < common; i++) {
+                int comparison = Byte.compareUnsigned(buffer.get(keyOffset + Integer.BYTES + i), key[i]);
+                if (comparison != 0) {
+                    return comparison;
+                }
+            }
+            return Integer.compare(length, key.length);
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package com.clean.backoffice.cache;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.clean.backoffice.dto.OBConfigDTO;
+import com.clean.backoffice.entity.CleanConfigEntity;
+import com.clean.backoffice.service.CleanConfigService;
+import com.clean.common.base.cache.EntityVersionChangedEvent;
+import com.clean.common.base.dto.OBChangeSetDTO;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Owns the current {@link ConfigSnapshot} and replaces it atomically on refresh.
+ * <p>
+ * Reads are a single volatile load. Refreshes are serialized among themselves:
+ * <ul>
+ * <li>a full load on startup and on a long interval (the only way to observe deleted rows),</li>
+ * <li>a delta load of rows changed since the snapshot watermark after committed writes and
+ * on a short interval, so writes made by other instances are picked up in O(changes).</li>
+ * </ul>
+ * The delta load after a write runs on a dedicated thread rather than in the writer's
+ * after-commit callback, so the write request does not wait for it; a burst of writes
+ * coalesces into one load plus at most one more for writes committed while it ran.
+ * Loads run in their own read-only transaction.
+ * </p>
+ * <p>
+ * Every swap first advances the {@link ConfigPlaceholderResolver} graph, so placeholders are
+ * resolved by the time a reader sees the snapshot. Every swap that changes content is then
+ * announced as a {@link ConfigSnapshotChangedEvent}.
+ * </p>
+ * <p>
+ * With {@link ConfigSnapshotFile} enabled, swapped-in snapshots are written to disk and their
+ * values served from the mapping, and startup maps the last file and only loads the delta.
+ * Writes are coalesced: at most one per {@code clean.config.snapshot.file-write-interval-ms}.
+ * A snapshot swapped in sooner is served from the heap until the next scheduled write maps the
+ * latest one in its place. A file that lags behind only costs a larger delta on restart.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ConfigSnapshotHolder {
+
+    private final CleanConfigService cleanConfigService;
+    private final ConfigSnapshotEntryFactory entryFactory;
+    private final TransactionTemplate readTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ConfigSnapshotFile snapshotFile;
+    private final ConfigPlaceholderResolver placeholderResolver;
+
+    // A lock rather than synchronized: refreshes block on JDBC, which would pin a virtual thread's carrier
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private final long fileWriteIntervalNanos;
+    // Guarded by refreshLock
+    private long lastFileWriteNanos;
+    private boolean fileWritePending;
+
+    private final AtomicBoolean writeRefreshPending = new AtomicBoolean();
+    private final ExecutorService writeRefresher = Executors.newSingleThreadExecutor(
+            runnable -> {
+                Thread thread = new Thread(runnable, "config-snapshot-refresher");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private volatile ConfigSnapshot snapshot = ConfigSnapshot.empty();
+
+    public ConfigSnapshotHolder(
+            CleanConfigService cleanConfigService,
+            ConfigSnapshotEntryFactory entryFactory,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            ConfigSnapshotFile snapshotFile,
+            ConfigPlaceholderResolver placeholderResolver,
+            @Value("${clean.config.snapshot.file-write-interval-ms:30000}") long fileWriteIntervalMs) {
+        this.cleanConfigService = cleanConfigService;
+        this.entryFactory = entryFactory;
+        this.eventPublisher = eventPublisher;
+        this.snapshotFile = snapshotFile;
+        this.placeholderResolver = placeholderResolver;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+        this.fileWriteIntervalNanos = TimeUnit.MILLISECONDS.toNanos(fileWriteIntervalMs);
+        this.lastFileWriteNanos = System.nanoTime() - fileWriteIntervalNanos;
+    }
+
+    public ConfigSnapshot current() {
+        return snapshot;
+    }
+
+    /**
+     * Reloads the whole table and swaps in a new snapshot.
+     *
+     * @return the new snapshot
+     */
+    public ConfigSnapshot refresh() {
+        refreshLock.lock();
+        try {
+            return loadAll();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private ConfigSnapshot loadAll() {
+        // Straight from the database: the full load is what detects rows deleted behind the caches
+        List<OBConfigDTO> configs = readTransaction.execute(status -> cleanConfigService.findAll());
+        if (configs == null) {
+            configs = List.of();
+        }
+
+        ConfigSnapshot current = snapshot;
+        Map<String, ConfigSnapshotEntry> entries = new HashMap<>(configs.size() * 2);
+        List<ConfigSnapshotEntry> changed = new ArrayList<>();
+        LocalDateTime watermark = null;
+        for (OBConfigDTO config : configs) {
+            ConfigSnapshotEntry entry = entryFactory.create(config);
+            entries.put(entry.propKey(), entry);
+            watermark = max(watermark, entry.updatedOn());
+            if (!entry.equals(current.find(entry.propKey()).orElse(null))) {
+                changed.add(entry);
+            }
+        }
+
+        List<String> removedKeys = new ArrayList<>();
+        for (ConfigSnapshotEntry entry : current.entries()) {
+            if (!entries.containsKey(entry.propKey())) {
+                removedKeys.add(entry.propKey());
+            }
+        }
+
+        return swap(entries, watermark, changed, removedKeys);
+    }
+
+    /**
+     * Applies rows changed since the current watermark on top of the current snapshot.
+     * Falls back to a full load when no watermark exists yet.
+     *
+     * @return the new snapshot, or the current one when nothing changed
+     */
+    public ConfigSnapshot refreshIncremental() {
+        refreshLock.lock();
+        try {
+            return loadDelta();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private ConfigSnapshot loadDelta() {
+        ConfigSnapshot current = snapshot;
+        if (current.getWatermark() == null) {
+            return loadAll();
+        }
+
+        OBChangeSetDTO<OBConfigDTO> changes = readTransaction.execute(
+                status -> cleanConfigService.findChangedSince(current.getWatermark()));
+        if (changes == null || changes.getDataList().isEmpty()) {
+            return current;
+        }
+
+        Map<String, ConfigSnapshotEntry> merged = null;
+        List<ConfigSnapshotEntry> changed = new ArrayList<>();
+        List<String> removedKeys = new ArrayList<>();
+        for (OBConfigDTO config : changes.getDataList()) {
+            ConfigSnapshotEntry entry = entryFactory.create(config);
+
+            // The inclusive watermark returns rows already applied; skip them unchanged
+            if (entry.equals(current.find(entry.propKey()).orElse(null))) {
+                continue;
+            }
+
+            if (merged == null) {
+                merged = current.copyEntries();
+            }
+            String previousKey = current.keyOf(entry.id());
+            if (previousKey != null && !previousKey.equals(entry.propKey())) {
+                merged.remove(previousKey);
+                removedKeys.add(previousKey);
+            }
+            merged.put(entry.propKey(), entry);
+            changed.add(entry);
+        }
+
+        if (merged == null) {
+            return current;
+        }
+        return swap(merged, max(current.getWatermark(), changes.getWatermark()), changed, removedKeys);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            Optional<ConfigSnapshot> mapped = snapshotFile.load();
+            if (mapped.isPresent()) {
+                refreshLock.lock();
+                try {
+                    placeholderResolver.rebuild(mapped.get());
+                    snapshot = mapped.get();
+                } finally {
+                    refreshLock.unlock();
+                }
+                refreshIncremental();
+            } else {
+                refresh();
+            }
+        } catch (Exception e) {
+            log.error("Initial config snapshot load failed; serving empty snapshot until next refresh", e);
+        }
+    }
+
+    @EventListener
+    public void onEntityVersionChanged(EntityVersionChangedEvent event) {
+        if (event.entityType() != CleanConfigEntity.class) {
+            return;
+        }
+        // One load is already queued and will see this write
+        if (!writeRefreshPending.compareAndSet(false, true)) {
+            return;
+        }
+        writeRefresher.execute(() -> {
+            // Cleared before loading, so a write committed during the load queues another one
+            writeRefreshPending.set(false);
+            try {
+                refreshIncremental();
+            } catch (Exception e) {
+                log.error("Config snapshot refresh after write failed; keeping snapshot v{}", snapshot.getVersion(), e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writeRefresher.shutdownNow();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${clean.config.snapshot.delta-interval-ms:5000}",
+            initialDelayString = "${clean.config.snapshot.delta-interval-ms:5000}")
+    public void scheduledDeltaRefresh() {
+        try {
+            refreshIncremental();
+        } catch (Exception e) {
+            log.warn("Scheduled config delta refresh failed; keeping snapshot v{}: {}",
+                    snapshot.getVersion(), e.getMessage());
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${clean.config.snapshot.full-interval-ms:600000}",
+            initialDelayString = "${clean.config.snapshot.full-interval-ms:600000}")
+    public void scheduledFullRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("Scheduled config full refresh failed; keeping snapshot v{}: {}",
+                    snapshot.getVersion(), e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the latest snapshot to the file when a swap skipped it, and serves the mapped copy.
+     */
+    @Scheduled(
+            fixedDelayString = "${clean.config.snapshot.file-write-interval-ms:30000}",
+            initialDelayString = "${clean.config.snapshot.file-write-interval-ms:30000}")
+    public void scheduledFileWrite() {
+        refreshLock.lock();
+        try {
+            if (fileWritePending) {
+                // Same version and content: caches keyed by the version and the placeholder graph stay valid
+                snapshot = writeFile(snapshot);
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private ConfigSnapshot writeFile(ConfigSnapshot refreshed) {
+        fileWritePending = false;
+        lastFileWriteNanos = System.nanoTime();
+        try {
+            return snapshotFile.writeAndMap(refreshed);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not write config snapshot file, serving values from heap: {}", e.getMessage());
+            return refreshed;
+        }
+    }
+
+    private ConfigSnapshot swap(Map<String, ConfigSnapshotEntry> entries, LocalDateTime watermark,
+            List<ConfigSnapshotEntry> changed, List<String> removedKeys) {
+        ConfigSnapshot refreshed = new ConfigSnapshot(snapshot.getVersion() + 1, entries, watermark, Instant.now());
+        if (snapshotFile.isEnabled()) {
+            if (System.nanoTime() - lastFileWriteNanos >= fileWriteIntervalNanos) {
+                refreshed = writeFile(refreshed);
+            } else {
+                fileWritePending = true;
+            }
+        }
+        placeholderResolver.advance(refreshed, changed, removedKeys);
+        snapshot = refreshed;
+        log.info("Config snapshot v{} loaded with {} properties (watermark {}, {} changed, {} removed)",
+                refreshed.getVersion(), refreshed.size(), watermark, changed.size(), removedKeys.size());
+
+        if (!changed.isEmpty() || !removedKeys.isEmpty()) {
+            changed.sort(Comparator.comparing(ConfigSnapshotEntry::updatedOn,
+                    Comparator.nullsFirst(Comparator.naturalOrder())));
+            eventPublisher.publishEvent(new ConfigSnapshotChangedEvent(refreshed, changed, removedKeys));
+        }
+        return refreshed;
+    }
+
+    private static LocalDateTime max(LocalDateTime current, LocalDateTime candidate) {
+        if (candidate == null) {
+            return current;
+        }
+        return current == null || candidate.isAfter(current) ? candidate : Objects.requireNonNull(current);
+    }
+}
@@ -0,0 +1,24 @@
+package com.clean.backoffice.cache;
+
+import java.util.Collection;
+
+/**
+ * Lookup structure behind a {@link ConfigSnapshot}: a heap map for snapshots built from the
+ * database, or the sorted indexes of a mapped {@link ConfigSnapshotFile}.
+ */
+abstract class ConfigSnapshotIndex {
+
+    /**
+     * Returns the entry of the key, or null when absent.
+     */
+    abstract ConfigSnapshotEntry find(String propKey);
+
+    /**
+     * Returns the key held by the row with the given id, or null when absent.
+     */
+    abstract String keyOf(long id);
+
+    abstract Collection<ConfigSnapshotEntry> entries();
+
+    abstract int size();
+}
@@ -0,0 +1,63 @@
+package com.clean.backoffice.cache;
+
+import java.util.Locale;
+
+import org.springframework.stereotype.Component;
+
+import com.clean.backoffice.crypto.ConfigValueCipher;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Decodes raw TBL_CLEAN_CONFIG values according to their {@code data_type}.
+ * <ul>
+ * <li>{@code int} → {@link Long}</li>
+ * <li>{@code boolean} → {@link Boolean} (only "true"/"false", case-insensitive)</li>
+ * <li>{@code json} → Jackson {@code JsonNode}</li>
+ * <li>anything else → the raw {@link String}</li>
+ * </ul>
+ * Values that do not match their declared type fall back to the raw string, and encrypted
+ * values are returned as stored: they are decrypted on request, never held in plain text here.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConfigValueDecoder {
+
+    private final JsonMapper jsonMapper;
+
+    public Object decode(String propKey, String rawValue, String dataType) {
+        if (rawValue == null) {
+            return null;
+        }
+        if (ConfigValueCipher.isEncrypted(rawValue)) {
+            return rawValue;
+        }
+
+        String type = dataType == null ? "string" : dataType.trim().toLowerCase(Locale.ROOT);
+        try {
+            return switch (type) {
+                case "int", "integer", "long" -> Long.valueOf(rawValue.trim());
+                case "boolean" -> parseBoolean(rawValue);
+                case "json" -> jsonMapper.readTree(rawValue);
+                default -> rawValue;
+            };
+        } catch (RuntimeException e) {
+            log.warn("Value of '{}' is not a valid {}, serving it as string: {}", propKey, type, e.getMessage());
+            return rawValue;
+        }
+    }
+
+    private static Boolean parseBoolean(String rawValue) {
+        String value = rawValue.trim();
+        if ("true".equalsIgnoreCase(value)) {
+            return Boolean.TRUE;
+        }
+        if ("false".equalsIgnoreCase(value)) {
+            return Boolean.FALSE;
+        }
+        throw new IllegalArgumentException("'" + rawValue + "' is not a boolean");
+    }
+}
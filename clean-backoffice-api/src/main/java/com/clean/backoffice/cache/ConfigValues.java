@@ -0,0 +1,60 @@
+package com.clean.backoffice.cache;
+
+import java.util.Objects;
+
+import com.clean.backoffice.constant.ConfigEnvironment;
+
+/**
+ * The per-environment values of one {@link ConfigSnapshotEntry}, either held on-heap or read
+ * lazily from a memory-mapped snapshot file. Two instances are equal when every environment
+ * has the same raw value, regardless of where it is stored. Mapped values are compared as
+ * bytes, without decoding them.
+ */
+public abstract class ConfigValues {
+
+    /**
+     * Returns the raw value, or null when the environment has none.
+     */
+    public abstract String raw(ConfigEnvironment environment);
+
+    /**
+     * Returns the value decoded according to the entry's data type, or null when absent.
+     */
+    public abstract Object decoded(ConfigEnvironment environment);
+
+    @Override
+    public final boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ConfigValues that)) {
+            return false;
+        }
+        for (ConfigEnvironment environment : ConfigEnvironment.values()) {
+            if (!rawEquals(environment, that)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether {@code other} has the same raw value for the environment. Overridden by mapped
+     * values to compare their bytes.
+     */
+    boolean rawEquals(ConfigEnvironment environment, ConfigValues other) {
+        if (other instanceof MappedConfigValues) {
+            return other.rawEquals(environment, this);
+        }
+        return Objects.equals(raw(environment), other.raw(environment));
+    }
+
+    @Override
+    public final int hashCode() {
+        int hash = 1;
+        for (ConfigEnvironment environment : ConfigEnvironment.values()) {
+            hash = 31 * hash + Objects.hashCode(raw(environment));
+        }
+        return hash;
+    }
+}
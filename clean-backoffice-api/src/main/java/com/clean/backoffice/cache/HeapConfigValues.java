@@ -0,0 +1,30 @@
+package com.clean.backoffice.cache;
+
+import java.util.Map;
+
+import com.clean.backoffice.constant.ConfigEnvironment;
+
+/**
+ * {@link ConfigValues} held on-heap, decoded once when built. Environments without a value
+ * are absent from both maps.
+ */
+public final class HeapConfigValues extends ConfigValues {
+
+    private final Map<ConfigEnvironment, String> rawValues;
+    private final Map<ConfigEnvironment, Object> decodedValues;
+
+    public HeapConfigValues(Map<ConfigEnvironment, String> rawValues, Map<ConfigEnvironment, Object> decodedValues) {
+        this.rawValues = Map.copyOf(rawValues);
+        this.decodedValues = Map.copyOf(decodedValues);
+    }
+
+    @Override
+    public String raw(ConfigEnvironment environment) {
+        return rawValues.get(environment);
+    }
+
+    @Override
+    public Object decoded(ConfigEnvironment environment) {
+        return decodedValues.get(environment);
+    }
+}
@@ -0,0 +1,50 @@
+package com.clean.backoffice.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Single-process stand-in for {@link RedisConfigSharedCache}, used when Redis is disabled
+ * (local runs and tests). Invalidations are delivered synchronously to local subscribers.
+ */
+public class InMemoryConfigSharedCache implements ConfigSharedCache {
+
+    private final Map<String, String> values = new ConcurrentHashMap<>();
+    private final List<Consumer<Collection<String>>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Optional<String> get(String key) {
+        return Optional.ofNullable(values.get(key));
+    }
+
+    @Override
+    public void put(String key, String value) {
+        values.put(key, value);
+    }
+
+    @Override
+    public void evict(Collection<String> keys) {
+        keys.forEach(values::remove);
+    }
+
+    @Override
+    public void publishInvalidation(Collection<String> keys) {
+        List<String> copy = List.copyOf(keys);
+        listeners.forEach(listener -> listener.accept(copy));
+    }
+
+    @Override
+    public void onExternalChange() {
+        values.clear();
+    }
+
+    @Override
+    public void subscribe(Consumer<Collection<String>> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,86 @@
+package com.clean.backoffice.cache;
+
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.clean.backoffice.constant.ConfigEnvironment;
+
+/**
+ * {@link ConfigValues} read from a memory-mapped {@link ConfigSnapshotFile}. Nothing is copied
+ * onto the heap until a value is requested; decoded values are then memoized behind soft
+ * references, so the GC can drop large JSON trees again under memory pressure.
+ */
+final class MappedConfigValues extends ConfigValues {
+
+    private final ByteBuffer buffer;
+    private final int[] valueOffsets;
+    private final ConfigValueDecoder decoder;
+    private final String propKey;
+    private final String dataType;
+    private final AtomicReferenceArray<SoftReference<Object>> decodedCache;
+
+    /**
+     * @param buffer       the mapped file, read with absolute gets only
+     * @param valueOffsets offset of each environment's length prefix, by ordinal
+     */
+    MappedConfigValues(ByteBuffer buffer, int[] valueOffsets, ConfigValueDecoder decoder, String propKey,
+            String dataType) {
+        this.buffer = buffer;
+        this.valueOffsets = valueOffsets;
+        this.decoder = decoder;
+        this.propKey = propKey;
+        this.dataType = dataType;
+        this.decodedCache = new AtomicReferenceArray<>(valueOffsets.length);
+    }
+
+    @Override
+    public String raw(ConfigEnvironment environment) {
+        int offset = valueOffsets[environment.ordinal()];
+        int length = buffer.getInt(offset);
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(offset + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    boolean rawEquals(ConfigEnvironment environment, ConfigValues other) {
+        int offset = valueOffsets[environment.ordinal()];
+        int length = buffer.getInt(offset);
+
+        if (other instanceof MappedConfigValues mapped) {
+            int otherOffset = mapped.valueOffsets[environment.ordinal()];
+            if (length != mapped.buffer.getInt(otherOffset)) {
+                return false;
+            }
+            return length < 0 || buffer.slice(offset + Integer.BYTES, length)
+                    .equals(mapped.buffer.slice(otherOffset + Integer.BYTES, length));
+        }
+
+        String value = other.raw(environment);
+        if (value == null || length < 0) {
+            return value == null && length < 0;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        return bytes.length == length && buffer.slice(offset + Integer.BYTES, length).equals(ByteBuffer.wrap(bytes));
+    }
+
+    @Override
+    public Object decoded(ConfigEnvironment environment) {
+        SoftReference<Object> cached = decodedCache.get(environment.ordinal());
+        Object value = cached != null ? cached.get() : null;
+        if (value != null) {
+            return value;
+        }
+
+        value = decoder.decode(propKey, raw(environment), dataType);
+        if (value != null) {
+            decodedCache.set(environment.ordinal(), new SoftReference<>(value));
+        }
+        return value;
+    }
+}
@@ -0,0 +1,86 @@
+package com.clean.backoffice.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis-backed {@link ConfigSharedCache}. Values are plain string keys under
+ * {@code keyPrefix} with a TTL; invalidations are published on a pub/sub channel as
+ * newline-separated keys.
+ */
+@Slf4j
+public class RedisConfigSharedCache implements ConfigSharedCache {
+
+    private static final String KEY_SEPARATOR = "\n";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ChannelTopic invalidationTopic;
+    private final String keyPrefix;
+    private final Duration ttl;
+
+    public RedisConfigSharedCache(
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            String keyPrefix,
+            String invalidationChannel,
+            Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.invalidationTopic = new ChannelTopic(invalidationChannel);
+        this.keyPrefix = keyPrefix;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Optional<String> get(String key) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(keyPrefix + key));
+    }
+
+    @Override
+    public void put(String key, String value) {
+        redisTemplate.opsForValue().set(keyPrefix + key, value, ttl);
+    }
+
+    @Override
+    public void evict(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        redisTemplate.delete(keys.stream().map(key -> keyPrefix + key).toList());
+    }
+
+    @Override
+    public void publishInvalidation(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        redisTemplate.convertAndSend(invalidationTopic.getTopic(), String.join(KEY_SEPARATOR, keys));
+    }
+
+    @Override
+    public void onExternalChange() {
+        // Every writer evicts and publishes through Redis itself, nothing can be missed here
+    }
+
+    @Override
+    public void subscribe(Consumer<Collection<String>> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            List<String> keys = Arrays.asList(body.split(KEY_SEPARATOR));
+            log.debug("Received invalidation for {} config cache keys", keys.size());
+            listener.accept(keys);
+        }, invalidationTopic);
+    }
+}
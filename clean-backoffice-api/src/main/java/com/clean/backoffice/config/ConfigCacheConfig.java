@@ -0,0 +1,60 @@
+package com.clean.backoffice.config;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.clean.backoffice.cache.ConfigSharedCache;
+import com.clean.backoffice.cache.InMemoryConfigSharedCache;
+import com.clean.backoffice.cache.RedisConfigSharedCache;
+
+/**
+ * Selects the shared tier of the config near-cache.
+ * <p>
+ * With {@code clean.cache.redis.enabled=true} all pods share Redis and receive invalidations
+ * over pub/sub. Otherwise a per-process in-memory stand-in is used, which is what local runs
+ * and tests get.
+ * </p>
+ */
+@Configuration
+public class ConfigCacheConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConfigCacheConfig.class);
+
+    @Bean
+    @ConditionalOnProperty(name = "clean.cache.redis.enabled", havingValue = "true")
+    public RedisMessageListenerContainer configCacheListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "clean.cache.redis.enabled", havingValue = "true")
+    public ConfigSharedCache redisConfigSharedCache(
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer configCacheListenerContainer,
+            @Value("${clean.cache.redis.key-prefix:clean:backoffice:config:}") String keyPrefix,
+            @Value("${clean.cache.redis.invalidation-channel:clean:backoffice:config:invalidate}") String channel,
+            @Value("${clean.cache.redis.ttl-seconds:600}") long ttlSeconds) {
+
+        logger.info("Config shared cache: Redis (prefix {}, channel {}, ttl {}s)", keyPrefix, channel, ttlSeconds);
+        return new RedisConfigSharedCache(redisTemplate, configCacheListenerContainer, keyPrefix, channel,
+                Duration.ofSeconds(ttlSeconds));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "clean.cache.redis.enabled", havingValue = "false", matchIfMissing = true)
+    public ConfigSharedCache inMemoryConfigSharedCache() {
+        logger.info("Config shared cache: in-memory (Redis disabled, no cross-pod sharing)");
+        return new InMemoryConfigSharedCache();
+    }
+}
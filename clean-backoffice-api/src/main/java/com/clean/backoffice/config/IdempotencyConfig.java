@@ -0,0 +1,49 @@
+package com.clean.backoffice.config;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.clean.backoffice.idempotency.IdempotencyStore;
+import com.clean.backoffice.idempotency.InMemoryIdempotencyStore;
+import com.clean.backoffice.idempotency.RedisIdempotencyStore;
+
+/**
+ * Selects the store of idempotent write responses.
+ * <p>
+ * With {@code clean.cache.redis.enabled=true} all pods share Redis, so a retry landing on
+ * another pod is still recognized. Otherwise responses are kept per process.
+ * </p>
+ */
+@Configuration
+public class IdempotencyConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyConfig.class);
+
+    @Bean
+    @ConditionalOnProperty(name = "clean.cache.redis.enabled", havingValue = "true")
+    public IdempotencyStore redisIdempotencyStore(
+            StringRedisTemplate redisTemplate,
+            @Value("${clean.idempotency.redis.key-prefix:clean:backoffice:idempotency:}") String keyPrefix,
+            @Value("${clean.idempotency.ttl-seconds:86400}") long ttlSeconds) {
+
+        logger.info("Idempotency store: Redis (prefix {}, ttl {}s)", keyPrefix, ttlSeconds);
+        return new RedisIdempotencyStore(redisTemplate, keyPrefix, Duration.ofSeconds(ttlSeconds));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "clean.cache.redis.enabled", havingValue = "false", matchIfMissing = true)
+    public IdempotencyStore inMemoryIdempotencyStore(
+            @Value("${clean.idempotency.max-entries:10000}") long maxEntries,
+            @Value("${clean.idempotency.ttl-seconds:86400}") long ttlSeconds) {
+
+        logger.info("Idempotency store: in-memory ({} entries, ttl {}s, no cross-pod sharing)", maxEntries, ttlSeconds);
+        return new InMemoryIdempotencyStore(maxEntries, Duration.ofSeconds(ttlSeconds));
+    }
+}
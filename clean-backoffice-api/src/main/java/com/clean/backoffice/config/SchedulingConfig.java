@@ -0,0 +1,20 @@
+package com.clean.backoffice.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs such as the config snapshot refreshers.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchedulingConfig.class);
+
+    public SchedulingConfig() {
+        logger.info("SchedulingConfig initialized - Scheduled background jobs enabled");
+    }
+}
@@ -0,0 +1,54 @@
+package com.clean.backoffice.constant;
+
+import java.util.Locale;
+import java.util.function.Function;
+
+import com.clean.backoffice.dto.OBConfigDTO;
+
+/**
+ * Deployment environments of TBL_CLEAN_CONFIG, one value column each.
+ */
+public enum ConfigEnvironment {
+
+    DEV("dev_value", OBConfigDTO::getDevValue),
+    SIT("sit_value", OBConfigDTO::getSitValue),
+    UAT("uat_value", OBConfigDTO::getUatValue),
+    PROD("prod_value", OBConfigDTO::getProdValue),
+    DR("dr_value", OBConfigDTO::getDrValue);
+
+    private final String columnName;
+    private final Function<OBConfigDTO, String> valueGetter;
+
+    ConfigEnvironment(String columnName, Function<OBConfigDTO, String> valueGetter) {
+        this.columnName = columnName;
+        this.valueGetter = valueGetter;
+    }
+
+    /**
+     * Returns the value column of this environment in TBL_CLEAN_CONFIG.
+     * Safe to inline into native SQL: it is a constant, never user input.
+     */
+    public String getColumnName() {
+        return columnName;
+    }
+
+    public String valueOf(OBConfigDTO config) {
+        return valueGetter.apply(config);
+    }
+
+    /**
+     * Parses an environment name case-insensitively.
+     *
+     * @throws IllegalArgumentException if the name is blank or unknown
+     */
+    public static ConfigEnvironment from(String name) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Environment must not be blank");
+        }
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown environment: " + name, e);
+        }
+    }
+}
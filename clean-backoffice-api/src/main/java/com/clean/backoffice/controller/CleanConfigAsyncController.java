@@ -0,0 +1,166 @@
+package com.clean.backoffice.controller;
+
+import com.clean.backoffice.dto.OBConfigDTO;
+import com.clean.backoffice.dto.OBConfigFilterDTO;
+import com.clean.backoffice.entity.CleanConfigEntity;
+import com.clean.backoffice.service.CleanConfigService;
+import com.clean.common.base.dto.OBBaseRequestDTO;
+import com.clean.common.base.dto.OBBaseResponseDTO;
+import com.clean.common.base.dto.OBPageDTO;
+import com.clean.common.base.resilience.CircuitOpenException;
+import com.clean.common.base.resilience.ResilientReadCache;
+import com.clean.common.base.service.DatabaseExecutor;
+import com.clean.common.web.VersionedETag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous variants of the {@link CleanConfigController} reads.
+ * <p>
+ * Base URL: /backoffice/api/v1/config/async
+ * </p>
+ * <p>
+ * Each endpoint hands its query to the {@link DatabaseExecutor} and returns at once, so the
+ * Jetty thread is free for health probes and cache hits while the query runs. Results, stale
+ * fallbacks and ETags are the same as for the synchronous endpoints, which share the
+ * {@link ResilientReadCache} entries. When the executor's queue is full and no earlier result
+ * exists, the request is answered with 503 immediately.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/v1/config/async")
+@RequiredArgsConstructor
+@Slf4j
+public class CleanConfigAsyncController {
+
+        private final CleanConfigService cleanConfigService;
+        private final ResilientReadCache resilientReadCache;
+        private final DatabaseExecutor databaseExecutor;
+
+        @PostMapping("/getAll")
+        @VersionedETag(CleanConfigEntity.class)
+        public CompletableFuture<ResponseEntity<OBBaseResponseDTO<OBPageDTO<OBConfigDTO>>>> getConfigsPaginated(
+                        @RequestBody @Valid OBBaseRequestDTO<OBConfigFilterDTO> request) {
+
+                log.debug("POST /api/v1/config/async/getAll - Retrieving configs with pagination and filters");
+
+                return read(CleanConfigController.readKey("getAll", request.getReqData()),
+                                () -> cleanConfigService.getAll(request),
+                                page -> "Retrieved " + page.getDataList().size() + " of " + page.getTotalRecords()
+                                                + " configuration properties",
+                                "Failed to retrieve configuration properties");
+        }
+
+        @PostMapping("/findByCriteria")
+        @VersionedETag(CleanConfigEntity.class)
+        public CompletableFuture<ResponseEntity<OBBaseResponseDTO<OBConfigDTO>>> findByCriteria(
+                        @RequestBody @Valid OBBaseRequestDTO<OBConfigFilterDTO> request) {
+
+                log.debug("POST /api/v1/config/async/findByCriteria - Finding config by criteria");
+
+                return read(CleanConfigController.readKey("findByCriteria", request.getReqData()),
+                                () -> cleanConfigService.findByCriteria(request.getReqData()).orElse(null),
+                                config -> config != null ? "Configuration found" : "No configuration found matching criteria",
+                                "Failed to find configuration");
+        }
+
+        @GetMapping("/key/{propKey}")
+        @VersionedETag(CleanConfigEntity.class)
+        public CompletableFuture<ResponseEntity<OBBaseResponseDTO<OBConfigDTO>>> findByPropKey(
+                        @PathVariable String propKey) {
+
+                log.debug("GET /api/v1/config/async/key/{} - Finding config by natural id", propKey);
+
+                return read("key:" + propKey,
+                                () -> cleanConfigService.findByPropKey(propKey).orElse(null),
+                                config -> config != null ? "Configuration found" : "No configuration found for key",
+                                "Failed to find configuration");
+        }
+
+        @PostMapping("/findListByCriteria")
+        @VersionedETag(CleanConfigEntity.class)
+        public CompletableFuture<ResponseEntity<OBBaseResponseDTO<List<OBConfigDTO>>>> findListByCriteria(
+                        @RequestBody @Valid OBBaseRequestDTO<OBConfigFilterDTO> request) {
+
+                log.debug("POST /api/v1/config/async/findListByCriteria - Finding configs by criteria as list");
+
+                return read(CleanConfigController.readKey("findListByCriteria", request.getReqData()),
+                                () -> cleanConfigService.findListByCriteria(request.getReqData()),
+                                configs -> "Found " + configs.size() + " configuration properties matching criteria",
+                                "Failed to find configurations");
+        }
+
+        @PostMapping("/findPageByCriteria")
+        @VersionedETag(CleanConfigEntity.class)
+        public CompletableFuture<ResponseEntity<OBBaseResponseDTO<OBPageDTO<OBConfigDTO>>>> findPageByCriteria(
+                        @RequestBody @Valid OBBaseRequestDTO<OBConfigFilterDTO> request) {
+
+                log.debug("POST /api/v1/config/async/findPageByCriteria - Finding configs by criteria with pagination");
+
+                return read(CleanConfigController.readKey("findPageByCriteria", request.getReqData()),
+                                () -> cleanConfigService.findPageByCriteria(request.getReqData()),
+                                page -> "Found " + page.getDataList().size() + " of " + page.getTotalRecords()
+                                                + " configuration properties matching criteria",
+                                "Failed to find configurations");
+        }
+
+        /**
+         * Runs {@code loader} through the resilient read cache on the database executor and maps
+         * the outcome to the same envelopes as the synchronous endpoints.
+         */
+        private <T> CompletableFuture<ResponseEntity<OBBaseResponseDTO<T>>> read(String key, Supplier<T> loader,
+                        Function<T, String> message, String failureMessage) {
+
+                return resilientReadCache.readAsync(key, loader, databaseExecutor).handle((read, failure) -> {
+                        if (failure == null) {
+                                T value = read.value();
+
+                                OBBaseResponseDTO<T> response = OBBaseResponseDTO.<T>builder()
+                                                .success(true)
+                                                .statusCode("200")
+                                                .statusDescription("OK")
+                                                .message(message.apply(value))
+                                                .stale(read.stale() ? Boolean.TRUE : null)
+                                                .reqData(value)
+                                                .build();
+
+                                return ResponseEntity.ok(response);
+                        }
+
+                        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                                        ? failure.getCause()
+                                        : failure;
+                        if (cause instanceof CircuitOpenException) {
+                                log.warn("Configuration store unavailable: {}", cause.getMessage());
+                                return CleanConfigController.unavailableResponse(cause.getMessage());
+                        }
+
+                        log.error("{} ({})", failureMessage, key, cause);
+
+                        OBBaseResponseDTO<T> errorResponse = OBBaseResponseDTO.<T>builder()
+                                        .success(false)
+                                        .statusCode("500")
+                                        .statusDescription("Internal Server Error")
+                                        .message(failureMessage + ": " + cause.getMessage())
+                                        .reqData(null)
+                                        .build();
+
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+                });
+        }
+}
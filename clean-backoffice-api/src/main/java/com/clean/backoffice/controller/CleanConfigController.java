@@ -1,22 +1,50 @@
 package com.clean.backoffice.controller;
 
+import com.clean.backoffice.constant.ConfigEnvironment;
+import com.clean.backoffice.dto.OBConfigBatchRequestDTO;
+import com.clean.backoffice.dto.OBConfigBatchResultDTO;
 import com.clean.backoffice.dto.OBConfigDTO;
 import com.clean.backoffice.dto.OBConfigFilterDTO;
+import com.clean.backoffice.dto.OBConfigPromotionRequestDTO;
+import com.clean.backoffice.dto.OBConfigPromotionResultDTO;
+import com.clean.backoffice.entity.CleanConfigEntity;
+import com.clean.backoffice.idempotency.IdempotencyService;
 import com.clean.backoffice.service.CleanConfigService;
+import com.clean.backoffice.service.ConfigBatchService;
+import com.clean.backoffice.service.ConfigChangeStreamService;
+import com.clean.backoffice.service.ConfigEnvironmentDiffService;
+import com.clean.backoffice.service.ConfigHistoryService;
+import com.clean.backoffice.service.ConfigValueCompressionService;
 import com.clean.common.base.dto.OBBaseRequestDTO;
 import com.clean.common.base.dto.OBBaseResponseDTO;
+import com.clean.common.base.dto.OBChangeSetDTO;
 import com.clean.common.base.dto.OBPageDTO;
+import com.clean.common.base.resilience.CircuitOpenException;
+import com.clean.common.base.resilience.ResilientRead;
+import com.clean.common.base.resilience.ResilientReadCache;
+import com.clean.common.util.RequestFilterUtil;
+import com.clean.common.web.VersionedETag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.core.type.TypeReference;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
 /**
@@ -28,6 +56,21 @@ import java.util.List;
  * <p>
  * Base URL: /backoffice/api/v1/config
  * </p>
+ * <p>
+ * Read endpoints go through {@link ResilientReadCache}: when the database is slow or down they
+ * answer with the last known good result flagged {@code stale}, or fail fast with 503.
+ * </p>
+ * <p>
+ * Write endpoints are idempotent on {@code clientTraceNo} through {@link IdempotencyService}:
+ * a retried request gets the first response back instead of running again.
+ * </p>
+ * <p>
+ * Fresh reads carry a {@link VersionedETag} derived from the config version, so a client
+ * repeating a read with {@code If-None-Match} gets 304 without a query while nothing changed.
+ * </p>
+ * <p>
+ * The reads are also served without holding the request thread by {@link CleanConfigAsyncController}.
+ * </p>
  */
 @RestController
 @RequestMapping("/api/v1/config")
@@ -35,24 +78,43 @@ import java.util.List;
 @Slf4j
 public class CleanConfigController {
 
+        private static final TypeReference<OBBaseResponseDTO<OBConfigPromotionResultDTO>> PROMOTION_RESPONSE =
+                        new TypeReference<>() {
+                        };
+        private static final TypeReference<OBBaseResponseDTO<OBConfigBatchResultDTO>> BATCH_RESPONSE =
+                        new TypeReference<>() {
+                        };
+
         private final CleanConfigService cleanConfigService;
+        private final ConfigChangeStreamService configChangeStreamService;
+        private final ConfigValueCompressionService configValueCompressionService;
+        private final ConfigEnvironmentDiffService configEnvironmentDiffService;
+        private final ConfigHistoryService configHistoryService;
+        private final ResilientReadCache resilientReadCache;
+        private final ConfigBatchService configBatchService;
+        private final IdempotencyService idempotencyService;
 
         @PostMapping("/getAll")
+        @VersionedETag(CleanConfigEntity.class)
         public ResponseEntity<OBBaseResponseDTO<OBPageDTO<OBConfigDTO>>> getConfigsPaginated(
                         @RequestBody @Valid OBBaseRequestDTO<OBConfigFilterDTO> request) {
 
                 log.debug("POST /api/v1/config - Retrieving configs with pagination and filters");
 
                 try {
-                        OBPageDTO<OBConfigDTO> page = cleanConfigService.getAll(request);
+                        ResilientRead<OBPageDTO<OBConfigDTO>> read = resilientReadCache.read(
+                                        readKey("getAll", request.getReqData()),
+                                        () -> cleanConfigService.getAll(request));
+                        OBPageDTO<OBConfigDTO> page = read.value();
 
                         OBBaseResponseDTO<OBPageDTO<OBConfigDTO>> response = OBBaseResponseDTO
                                         .<OBPageDTO<OBConfigDTO>>builder()
                                         .success(true)
                                         .statusCode("200")
                                         .statusDescription("OK")
-                                        .message(String.format("Retrieved %d of %d configuration properties",
-                                                        page.getDataList().size(), page.getTotalRecords()))
+                                        .message("Retrieved " + page.getDataList().size() + " of " + page.getTotalRecords()
+                                                        + " configuration properties")
+                                        .stale(read.stale() ? Boolean.TRUE : null)
                                         .reqData(page)
                                         .build();
 
@@ -60,6 +122,10 @@ public class CleanConfigController {
                                         page.getCurrentPage(), page.getDataList().size(), page.getTotalRecords());
                         return ResponseEntity.ok(response);
 
+                } catch (CircuitOpenException e) {
+                        log.warn("Configuration store unavailable: {}", e.getMessage());
+                        return unavailableResponse(e.getMessage());
+
                 } catch (Exception e) {
                         log.error("Error retrieving configuration properties with pagination", e);
 
@@ -77,24 +143,30 @@ public class CleanConfigController {
         }
 
         @GetMapping("/getAll")
+        @VersionedETag(CleanConfigEntity.class)
         public ResponseEntity<OBBaseResponseDTO<List<OBConfigDTO>>> getAllConfigs() {
                 log.debug("GET /api/v1/config/getAll - Retrieving all configuration properties");
 
                 try {
-                        List<OBConfigDTO> configs = cleanConfigService.getAll();
+                        ResilientRead<List<OBConfigDTO>> read = resilientReadCache.read("getAllList", cleanConfigService::getAll);
+                        List<OBConfigDTO> configs = read.value();
 
                         OBBaseResponseDTO<List<OBConfigDTO>> response = OBBaseResponseDTO.<List<OBConfigDTO>>builder()
                                         .success(true)
                                         .statusCode("200")
                                         .statusDescription("OK")
-                                        .message(String.format("Retrieved %d configuration properties successfully",
-                                                        configs.size()))
+                                        .message("Retrieved " + configs.size() + " configuration properties successfully")
+                                        .stale(read.stale() ? Boolean.TRUE : null)
                                         .reqData(configs)
                                         .build();
 
                         log.info("Successfully retrieved {} configuration properties", configs.size());
                         return ResponseEntity.ok(response);
 
+                } catch (CircuitOpenException e) {
+                        log.warn("Configuration store unavailable: {}", e.getMessage());
+                        return unavailableResponse(e.getMessage());
+
                 } catch (Exception e) {
                         log.error("Error retrieving configuration properties", e);
 
@@ -111,26 +183,217 @@ public class CleanConfigController {
                 }
         }
 
+        /**
+         * Returns configuration properties changed at or after {@code since} (UTC), plus the
+         * watermark to send on the next call. Omit {@code since} for a full load.
+         */
+        @GetMapping("/changedSince")
+        @VersionedETag(CleanConfigEntity.class)
+        public ResponseEntity<OBBaseResponseDTO<OBChangeSetDTO<OBConfigDTO>>> getChangedSince(
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+
+                log.debug("GET /api/v1/config/changedSince - Retrieving configs changed since {}", since);
+
+                try {
+                        OBChangeSetDTO<OBConfigDTO> changes = cleanConfigService.getChangedSince(since);
+
+                        OBBaseResponseDTO<OBChangeSetDTO<OBConfigDTO>> response = OBBaseResponseDTO
+                                        .<OBChangeSetDTO<OBConfigDTO>>builder()
+                                        .success(true)
+                                        .statusCode("200")
+                                        .statusDescription("OK")
+                                        .message(String.format("Retrieved %d configuration properties changed since %s",
+                                                        changes.getDataList().size(), since))
+                                        .reqData(changes)
+                                        .build();
+
+                        log.info("changedSince completed: {} records, watermark {}",
+                                        changes.getDataList().size(), changes.getWatermark());
+                        return ResponseEntity.ok(response);
+
+                } catch (Exception e) {
+                        log.error("Error retrieving changed configuration properties", e);
+
+                        OBBaseResponseDTO<OBChangeSetDTO<OBConfigDTO>> errorResponse = OBBaseResponseDTO
+                                        .<OBChangeSetDTO<OBConfigDTO>>builder()
+                                        .success(false)
+                                        .statusCode("500")
+                                        .statusDescription("Internal Server Error")
+                                        .message("Failed to retrieve changed configuration properties: " + e.getMessage())
+                                        .reqData(null)
+                                        .build();
+
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+                }
+        }
+
+        /**
+         * Returns the configuration as it was at {@code at} (UTC), from the history table: every
+         * property, or only {@code propKey} when given.
+         */
+        @GetMapping("/asOf")
+        public ResponseEntity<OBBaseResponseDTO<List<OBConfigDTO>>> getAsOf(
+                        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at,
+                        @RequestParam(required = false) String propKey) {
+
+                log.debug("GET /api/v1/config/asOf - Retrieving configs as of {} (key {})", at, propKey);
+
+                try {
+                        List<OBConfigDTO> configs = propKey != null && !propKey.isBlank()
+                                        ? configHistoryService.findAsOf(propKey.trim(), at).map(List::of).orElse(List.of())
+                                        : configHistoryService.findAllAsOf(at);
+
+                        OBBaseResponseDTO<List<OBConfigDTO>> response = OBBaseResponseDTO.<List<OBConfigDTO>>builder()
+                                        .success(true)
+                                        .statusCode("200")
+                                        .statusDescription("OK")
+                                        .message(String.format("Retrieved %d configuration properties as of %s",
+                                                        configs.size(), at))
+                                        .reqData(configs)
+                                        .build();
+
+                        return ResponseEntity.ok(response);
+
+                } catch (Exception e) {
+                        log.error("Error retrieving configuration as of {}", at, e);
+
+                        OBBaseResponseDTO<List<OBConfigDTO>> errorResponse = OBBaseResponseDTO.<List<OBConfigDTO>>builder()
+                                        .success(false)
+                                        .statusCode("500")
+                                        .statusDescription("Internal Server Error")
+                                        .message("Failed to retrieve configuration history: " + e.getMessage())
+                                        .reqData(null)
+                                        .build();
+
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+                }
+        }
+
+        /**
+         * Returns every recorded version of a property, oldest first.
+         */
+        @GetMapping("/history/{propKey}")
+        public ResponseEntity<OBBaseResponseDTO<List<OBConfigDTO>>> getHistory(@PathVariable String propKey) {
+
+                log.debug("GET /api/v1/config/history/{} - Retrieving config history", propKey);
+
+                try {
+                        List<OBConfigDTO> versions = configHistoryService.findHistory(propKey);
+
+                        OBBaseResponseDTO<List<OBConfigDTO>> response = OBBaseResponseDTO.<List<OBConfigDTO>>builder()
+                                        .success(true)
+                                        .statusCode("200")
+                                        .statusDescription("OK")
+                                        .message(String.format("Retrieved %d versions of %s", versions.size(), propKey))
+                                        .reqData(versions)
+                                        .build();
+
+                        return ResponseEntity.ok(response);
+
+                } catch (Exception e) {
+                        log.error("Error retrieving configuration history of {}", propKey, e);
+
+                        OBBaseResponseDTO<List<OBConfigDTO>> errorResponse = OBBaseResponseDTO.<List<OBConfigDTO>>builder()
+                                        .success(false)
+                                        .statusCode("500")
+                                        .statusDescription("Internal Server Error")
+                                        .message("Failed to retrieve configuration history: " + e.getMessage())
+                                        .reqData(null)
+                                        .build();
+
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+                }
+        }
+
+        /**
+         * Streams committed configuration changes as Server-Sent Events ("config-change" and
+         * "config-delete"). Resumes from {@code since}, or from the Last-Event-ID header sent by
+         * reconnecting EventSource clients; without either, the current state is replayed first.
+         */
+        @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+        public ResponseEntity<SseEmitter> streamChanges(
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+                        @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+
+                log.debug("GET /api/v1/config/stream - Subscribing to config changes since {} (Last-Event-ID {})",
+                                since, lastEventId);
+
+                try {
+                        LocalDateTime resumeFrom = since != null ? since
+                                        : lastEventId != null && !lastEventId.isBlank() ? LocalDateTime.parse(lastEventId.trim())
+                                                        : null;
+
+                        return ResponseEntity.ok(configChangeStreamService.subscribe(resumeFrom));
+
+                } catch (DateTimeParseException e) {
+                        log.warn("Invalid Last-Event-ID for config stream: {}", lastEventId);
+                        return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+
+                } catch (IllegalStateException e) {
+                        log.warn("Rejecting config stream subscriber: {}", e.getMessage());
+                        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+
+                } catch (Exception e) {
+                        log.error("Error opening configuration change stream", e);
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+                }
+        }
+
+        /**
+         * Streams the properties whose values differ between two or more environments as
+         * newline-delimited JSON, one {@code OBConfigDiffDTO} per line, ordered by key.
+         * The comparison runs in the database; only differing rows are transferred.
+         */
+        @GetMapping(path = "/diff", produces = MediaType.APPLICATION_NDJSON_VALUE)
+        public ResponseEntity<StreamingResponseBody> diffEnvironments(
+                        @RequestParam List<String> environments,
+                        @RequestParam(required = false) String category,
+                        @RequestParam(required = false) String keyPrefix) {
+
+                log.debug("GET /api/v1/config/diff - Comparing {} (category {}, prefix {})",
+                                environments, category, keyPrefix);
+
+                try {
+                        List<ConfigEnvironment> envs = configEnvironmentDiffService.parseEnvironments(environments);
+
+                        StreamingResponseBody body = out -> configEnvironmentDiffService.streamDiff(envs, category,
+                                        keyPrefix, out);
+                        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+
+                } catch (IllegalArgumentException e) {
+                        log.warn("Invalid config diff request: {}", e.getMessage());
+                        return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+                }
+        }
+
         @PostMapping("/findByCriteria")
+        @VersionedETag(CleanConfigEntity.class)
         public ResponseEntity<OBBaseResponseDTO<OBConfigDTO>> findByCriteria(
                         @RequestBody @Valid OBBaseRequestDTO<OBConfigFilterDTO> request) {
 
                 log.debug("POST /api/v1/config/findByCriteria - Finding config by criteria");
 
                 try {
-                        OBConfigDTO config = cleanConfigService.findByCriteria(request.getReqData()).orElse(null);
+                        ResilientRead<OBConfigDTO> read = resilientReadCache.read(readKey("findByCriteria", request.getReqData()),
+                                        () -> cleanConfigService.findByCriteria(request.getReqData()).orElse(null));
+                        OBConfigDTO config = read.value();
 
                         OBBaseResponseDTO<OBConfigDTO> response = OBBaseResponseDTO.<OBConfigDTO>builder()
                                         .success(true)
                                         .statusCode("200")
                                         .statusDescription("OK")
                                         .message(config != null ? "Configuration found" : "No configuration found matching criteria")
+                                        .stale(read.stale() ? Boolean.TRUE : null)
                                         .reqData(config)
                                         .build();
 
                         log.info("findByCriteria completed: {}", config != null ? "found" : "not found");
                         return ResponseEntity.ok(response);
 
+                } catch (CircuitOpenException e) {
+                        log.warn("Configuration store unavailable: {}", e.getMessage());
+                        return unavailableResponse(e.getMessage());
+
                 } catch (Exception e) {
                         log.error("Error finding configuration by criteria", e);
 
@@ -146,27 +409,77 @@ public class CleanConfigController {
                 }
         }
 
+        @GetMapping("/key/{propKey}")
+        @VersionedETag(CleanConfigEntity.class)
+        public ResponseEntity<OBBaseResponseDTO<OBConfigDTO>> findByPropKey(@PathVariable String propKey) {
+
+                log.debug("GET /api/v1/config/key/{} - Finding config by natural id", propKey);
+
+                try {
+                        ResilientRead<OBConfigDTO> read = resilientReadCache.read("key:" + propKey,
+                                        () -> cleanConfigService.findByPropKey(propKey).orElse(null));
+                        OBConfigDTO config = read.value();
+
+                        OBBaseResponseDTO<OBConfigDTO> response = OBBaseResponseDTO.<OBConfigDTO>builder()
+                                        .success(true)
+                                        .statusCode("200")
+                                        .statusDescription("OK")
+                                        .message(config != null ? "Configuration found" : "No configuration found for key")
+                                        .stale(read.stale() ? Boolean.TRUE : null)
+                                        .reqData(config)
+                                        .build();
+
+                        log.info("findByPropKey completed: {}", config != null ? "found" : "not found");
+                        return ResponseEntity.ok(response);
+
+                } catch (CircuitOpenException e) {
+                        log.warn("Configuration store unavailable: {}", e.getMessage());
+                        return unavailableResponse(e.getMessage());
+
+                } catch (Exception e) {
+                        log.error("Error finding configuration by key", e);
+
+                        OBBaseResponseDTO<OBConfigDTO> errorResponse = OBBaseResponseDTO.<OBConfigDTO>builder()
+                                        .success(false)
+                                        .statusCode("500")
+                                        .statusDescription("Internal Server Error")
+                                        .message("Failed to find configuration: " + e.getMessage())
+                                        .reqData(null)
+                                        .build();
+
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+                }
+        }
+
         @PostMapping("/findListByCriteria")
+        @VersionedETag(CleanConfigEntity.class)
         public ResponseEntity<OBBaseResponseDTO<List<OBConfigDTO>>> findListByCriteria(
                         @RequestBody @Valid OBBaseRequestDTO<OBConfigFilterDTO> request) {
 
                 log.debug("POST /api/v1/config/findListByCriteria - Finding configs by criteria as list");
 
                 try {
-                        List<OBConfigDTO> configs = cleanConfigService.findListByCriteria(request.getReqData());
+                        ResilientRead<List<OBConfigDTO>> read = resilientReadCache.read(
+                                        readKey("findListByCriteria", request.getReqData()),
+                                        () -> cleanConfigService.findListByCriteria(request.getReqData()));
+                        List<OBConfigDTO> configs = read.value();
 
                         OBBaseResponseDTO<List<OBConfigDTO>> response = OBBaseResponseDTO.<List<OBConfigDTO>>builder()
                                         .success(true)
                                         .statusCode("200")
                                         .statusDescription("OK")
-                                        .message(String.format("Found %d configuration properties matching criteria",
-                                                        configs.size()))
+                                        .message("Found " + configs.size() + " configuration properties matching criteria")
+                                        .stale(read.stale() ? Boolean.TRUE : null)
                                         .reqData(configs)
                                         .build();
 
                         log.info("findListByCriteria completed: found {} records", configs.size());
                         return ResponseEntity.ok(response);
 
+                } catch (CircuitOpenException e) {
+                        log.warn("Configuration store unavailable: {}", e.getMessage());
+                        return unavailableResponse(e.getMessage());
+
                 } catch (Exception e) {
                         log.error("Error finding configurations by criteria as list", e);
 
@@ -184,21 +497,26 @@ public class CleanConfigController {
         }
 
         @PostMapping("/findPageByCriteria")
+        @VersionedETag(CleanConfigEntity.class)
         public ResponseEntity<OBBaseResponseDTO<OBPageDTO<OBConfigDTO>>> findPageByCriteria(
                         @RequestBody @Valid OBBaseRequestDTO<OBConfigFilterDTO> request) {
 
                 log.debug("POST /api/v1/config/findPageByCriteria - Finding configs by criteria with pagination");
 
                 try {
-                        OBPageDTO<OBConfigDTO> page = cleanConfigService.findPageByCriteria(request.getReqData());
+                        ResilientRead<OBPageDTO<OBConfigDTO>> read = resilientReadCache.read(
+                                        readKey("findPageByCriteria", request.getReqData()),
+                                        () -> cleanConfigService.findPageByCriteria(request.getReqData()));
+                        OBPageDTO<OBConfigDTO> page = read.value();
 
                         OBBaseResponseDTO<OBPageDTO<OBConfigDTO>> response = OBBaseResponseDTO
                                         .<OBPageDTO<OBConfigDTO>>builder()
                                         .success(true)
                                         .statusCode("200")
                                         .statusDescription("OK")
-                                        .message(String.format("Found %d of %d configuration properties matching criteria",
-                                                        page.getDataList().size(), page.getTotalRecords()))
+                                        .message("Found " + page.getDataList().size() + " of " + page.getTotalRecords()
+                                                        + " configuration properties matching criteria")
+                                        .stale(read.stale() ? Boolean.TRUE : null)
                                         .reqData(page)
                                         .build();
 
@@ -206,6 +524,10 @@ public class CleanConfigController {
                                         page.getCurrentPage(), page.getDataList().size(), page.getTotalRecords());
                         return ResponseEntity.ok(response);
 
+                } catch (CircuitOpenException e) {
+                        log.warn("Configuration store unavailable: {}", e.getMessage());
+                        return unavailableResponse(e.getMessage());
+
                 } catch (Exception e) {
                         log.error("Error finding configurations by criteria with pagination", e);
 
@@ -221,4 +543,214 @@ public class CleanConfigController {
                         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
                 }
         }
+
+        /**
+         * Copies one environment's values to another for the matching properties in a single
+         * transaction, or with {@code dryRun} only reports the keys that would change.
+         */
+        @PostMapping("/promote")
+        public ResponseEntity<OBBaseResponseDTO<OBConfigPromotionResultDTO>> promote(
+                        @RequestBody @Valid OBBaseRequestDTO<OBConfigPromotionRequestDTO> request) {
+
+                return idempotencyService.execute("promote", request, PROMOTION_RESPONSE, () -> runPromotion(request));
+        }
+
+        private ResponseEntity<OBBaseResponseDTO<OBConfigPromotionResultDTO>> runPromotion(
+                        OBBaseRequestDTO<OBConfigPromotionRequestDTO> request) {
+
+                log.debug("POST /api/v1/config/promote - Promoting config values: {}", request.getReqData());
+
+                try {
+                        OBConfigPromotionResultDTO result = cleanConfigService.promote(request.getReqData());
+
+                        OBBaseResponseDTO<OBConfigPromotionResultDTO> response = OBBaseResponseDTO
+                                        .<OBConfigPromotionResultDTO>builder()
+                                        .clientTraceNo(request.getClientTraceNo())
+                                        .success(true)
+                                        .statusCode("200")
+                                        .statusDescription("OK")
+                                        .message(String.format("%s %d configuration properties from %s to %s",
+                                                        Boolean.TRUE.equals(result.getDryRun()) ? "Would promote" : "Promoted",
+                                                        result.getCount(), result.getSourceEnvironment(),
+                                                        result.getTargetEnvironment()))
+                                        .reqData(result)
+                                        .build();
+
+                        return ResponseEntity.ok(response);
+
+                } catch (IllegalArgumentException e) {
+                        log.warn("Invalid promotion request: {}", e.getMessage());
+
+                        OBBaseResponseDTO<OBConfigPromotionResultDTO> errorResponse = OBBaseResponseDTO
+                                        .<OBConfigPromotionResultDTO>builder()
+                                        .clientTraceNo(request.getClientTraceNo())
+                                        .success(false)
+                                        .statusCode("400")
+                                        .statusDescription("Bad Request")
+                                        .message(e.getMessage())
+                                        .reqData(null)
+                                        .build();
+
+                        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+
+                } catch (Exception e) {
+                        log.error("Error promoting configuration values", e);
+
+                        OBBaseResponseDTO<OBConfigPromotionResultDTO> errorResponse = OBBaseResponseDTO
+                                        .<OBConfigPromotionResultDTO>builder()
+                                        .clientTraceNo(request.getClientTraceNo())
+                                        .success(false)
+                                        .statusCode("500")
+                                        .statusDescription("Internal Server Error")
+                                        .message("Failed to promote configuration values: " + e.getMessage())
+                                        .reqData(null)
+                                        .build();
+
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+                }
+        }
+
+        /**
+         * Runs an ordered list of find/add/update operations in one call, in one transaction
+         * unless {@code atomic} is false, and answers with one result per operation.
+         */
+        @PostMapping("/batch")
+        public ResponseEntity<OBBaseResponseDTO<OBConfigBatchResultDTO>> batch(
+                        @RequestBody @Valid OBBaseRequestDTO<OBConfigBatchRequestDTO> request) {
+
+                // A batch answers 200 even when an operation hit a server error; a retry must rerun it
+                return idempotencyService.execute("batch", request, BATCH_RESPONSE, () -> runBatch(request),
+                                body -> body.getReqData() != null && body.getReqData().hasServerError());
+        }
+
+        private ResponseEntity<OBBaseResponseDTO<OBConfigBatchResultDTO>> runBatch(
+                        OBBaseRequestDTO<OBConfigBatchRequestDTO> request) {
+
+                log.debug("POST /api/v1/config/batch - Running batch of config operations");
+
+                try {
+                        OBConfigBatchResultDTO result = configBatchService.execute(request.getReqData());
+                        boolean success = result.getFailed() == 0;
+
+                        OBBaseResponseDTO<OBConfigBatchResultDTO> response = OBBaseResponseDTO
+                                        .<OBConfigBatchResultDTO>builder()
+                                        .clientTraceNo(request.getClientTraceNo())
+                                        .success(success)
+                                        .statusCode("200")
+                                        .statusDescription("OK")
+                                        .message(Boolean.TRUE.equals(result.getRolledBack())
+                                                        ? "Batch rolled back after a failed operation"
+                                                        : result.getSucceeded() + " of " + result.getResults().size()
+                                                                        + " operations succeeded")
+                                        .reqData(result)
+                                        .build();
+
+                        return ResponseEntity.ok(response);
+
+                } catch (IllegalArgumentException e) {
+                        log.warn("Invalid batch request: {}", e.getMessage());
+
+                        OBBaseResponseDTO<OBConfigBatchResultDTO> errorResponse = OBBaseResponseDTO
+                                        .<OBConfigBatchResultDTO>builder()
+                                        .clientTraceNo(request.getClientTraceNo())
+                                        .success(false)
+                                        .statusCode("400")
+                                        .statusDescription("Bad Request")
+                                        .message(e.getMessage())
+                                        .reqData(null)
+                                        .build();
+
+                        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+
+                } catch (Exception e) {
+                        log.error("Error running batch of configuration operations", e);
+
+                        OBBaseResponseDTO<OBConfigBatchResultDTO> errorResponse = OBBaseResponseDTO
+                                        .<OBConfigBatchResultDTO>builder()
+                                        .clientTraceNo(request.getClientTraceNo())
+                                        .success(false)
+                                        .statusCode("500")
+                                        .statusDescription("Internal Server Error")
+                                        .message("Failed to run batch: " + e.getMessage())
+                                        .reqData(null)
+                                        .build();
+
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+                }
+        }
+
+        /**
+         * Compresses stored values written before compression was enabled, in batches.
+         */
+        @PostMapping("/compressExisting")
+        public ResponseEntity<OBBaseResponseDTO<Integer>> compressExisting(
+                        @RequestParam(defaultValue = "500") int batchSize) {
+
+                log.debug("POST /api/v1/config/compressExisting - Compressing stored values in batches of {}", batchSize);
+
+                try {
+                        int rewritten = configValueCompressionService.compressExisting(batchSize);
+
+                        OBBaseResponseDTO<Integer> response = OBBaseResponseDTO.<Integer>builder()
+                                        .success(true)
+                                        .statusCode("200")
+                                        .statusDescription("OK")
+                                        .message(String.format("Compressed values of %d configuration properties", rewritten))
+                                        .reqData(rewritten)
+                                        .build();
+
+                        return ResponseEntity.ok(response);
+
+                } catch (IllegalArgumentException | IllegalStateException e) {
+                        log.warn("Compression backfill rejected: {}", e.getMessage());
+
+                        OBBaseResponseDTO<Integer> errorResponse = OBBaseResponseDTO.<Integer>builder()
+                                        .success(false)
+                                        .statusCode("400")
+                                        .statusDescription("Bad Request")
+                                        .message(e.getMessage())
+                                        .reqData(null)
+                                        .build();
+
+                        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+
+                } catch (Exception e) {
+                        log.error("Error compressing stored configuration values", e);
+
+                        OBBaseResponseDTO<Integer> errorResponse = OBBaseResponseDTO.<Integer>builder()
+                                        .success(false)
+                                        .statusCode("500")
+                                        .statusDescription("Internal Server Error")
+                                        .message("Failed to compress configuration values: " + e.getMessage())
+                                        .reqData(null)
+                                        .build();
+
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+                }
+        }
+
+        /**
+         * Read cache key of a filtered operation. The filter part is always present, so the key
+         * never equals the bare key of an unfiltered endpoint with another result type.
+         */
+        static String readKey(String operation, OBConfigFilterDTO filter) {
+                if (filter == null) {
+                        return operation + ":-";
+                }
+                return operation + ":" + RequestFilterUtil.getCanonicalFilterCriteria(filter) + ":" + filter.getCurrentPage()
+                                + ":" + filter.getPageSize() + ":" + filter.getSort();
+        }
+
+        static <T> ResponseEntity<OBBaseResponseDTO<T>> unavailableResponse(String message) {
+
+                OBBaseResponseDTO<T> errorResponse = OBBaseResponseDTO.<T>builder()
+                                .success(false)
+                                .statusCode("503")
+                                .statusDescription("Service Unavailable")
+                                .message(message)
+                                .reqData(null)
+                                .build();
+
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+        }
 }
@@ -0,0 +1,186 @@
+package com.clean.backoffice.controller;
+
+import com.clean.backoffice.constant.ConfigEnvironment;
+import com.clean.backoffice.dto.OBConfigResolveRequestDTO;
+import com.clean.backoffice.dto.OBResolvedConfigDTO;
+import com.clean.backoffice.dto.OBResolvedConfigListDTO;
+import com.clean.backoffice.service.ConfigBundleService;
+import com.clean.backoffice.service.ConfigBundleService.ConfigBundle;
+import com.clean.backoffice.service.ConfigResolutionService;
+import com.clean.common.base.dto.OBBaseRequestDTO;
+import com.clean.common.base.dto.OBBaseResponseDTO;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller resolving typed configuration values per environment.
+ * <p>
+ * Served entirely from the in-memory config snapshot; no request reaches the database.
+ * Category bundles are written straight from pre-serialized bytes.
+ * </p>
+ * <p>
+ * Base URL: /backoffice/api/v1/config/resolve
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/v1/config/resolve")
+@RequiredArgsConstructor
+@Slf4j
+public class ConfigResolutionController {
+
+        private final ConfigResolutionService configResolutionService;
+        private final ConfigBundleService configBundleService;
+
+        @GetMapping("/{environment}/{propKey}")
+        public ResponseEntity<OBBaseResponseDTO<OBResolvedConfigDTO>> resolve(
+                        @PathVariable String environment,
+                        @PathVariable String propKey) {
+
+                log.debug("GET /api/v1/config/resolve/{}/{} - Resolving config value", environment, propKey);
+
+                try {
+                        ConfigEnvironment env = ConfigEnvironment.from(environment);
+                        OBResolvedConfigDTO resolved = configResolutionService.resolve(env, propKey).orElse(null);
+
+                        OBBaseResponseDTO<OBResolvedConfigDTO> response = OBBaseResponseDTO.<OBResolvedConfigDTO>builder()
+                                        .success(resolved != null)
+                                        .statusCode(resolved != null ? "200" : "404")
+                                        .statusDescription(resolved != null ? "OK" : "Not Found")
+                                        .message(resolved != null ? "Configuration resolved" : "No configuration found for key")
+                                        .reqData(resolved)
+                                        .build();
+
+                        return ResponseEntity.status(resolved != null ? HttpStatus.OK : HttpStatus.NOT_FOUND).body(response);
+
+                } catch (IllegalArgumentException e) {
+                        log.warn("Invalid resolve request: {}", e.getMessage());
+                        return errorResponse(HttpStatus.BAD_REQUEST, "Bad Request", e.getMessage());
+
+                } catch (Exception e) {
+                        log.error("Error resolving configuration value", e);
+                        return errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error",
+                                        "Failed to resolve configuration: " + e.getMessage());
+                }
+        }
+
+        /**
+         * Returns every resolved value of the category as a pre-serialized bundle, gzipped when
+         * the client accepts it. Bundles are rebuilt only when the snapshot changes.
+         * <p>
+         * The ETag comes from the bundle itself rather than {@code @VersionedETag}: the entity
+         * version moves before the snapshot is refreshed, so a tag taken from it could label the
+         * previous snapshot's body. A matching {@code If-None-Match} is answered with 304 by
+         * Spring.
+         * </p>
+         */
+        @GetMapping("/{environment}/category/{category}")
+        public ResponseEntity<?> resolveCategory(
+                        @PathVariable String environment,
+                        @PathVariable String category,
+                        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+                log.debug("GET /api/v1/config/resolve/{}/category/{} - Resolving config bundle", environment, category);
+
+                try {
+                        ConfigEnvironment env = ConfigEnvironment.from(environment);
+                        ConfigBundle bundle = configBundleService.bundle(env, category);
+
+                        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .eTag(bundle.etag())
+                                        .cacheControl(CacheControl.noCache())
+                                        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                        if (bundle.gzip() != null && acceptsGzip(acceptEncoding)) {
+                                return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(bundle.gzip());
+                        }
+                        return response.body(bundle.json());
+
+                } catch (IllegalArgumentException e) {
+                        log.warn("Invalid resolve request: {}", e.getMessage());
+                        return errorResponse(HttpStatus.BAD_REQUEST, "Bad Request", e.getMessage());
+
+                } catch (Exception e) {
+                        log.error("Error resolving configuration bundle", e);
+                        return errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error",
+                                        "Failed to resolve configuration bundle: " + e.getMessage());
+                }
+        }
+
+        @PostMapping("/{environment}")
+        public ResponseEntity<OBBaseResponseDTO<OBResolvedConfigListDTO>> resolveAll(
+                        @PathVariable String environment,
+                        @RequestBody @Valid OBBaseRequestDTO<OBConfigResolveRequestDTO> request) {
+
+                log.debug("POST /api/v1/config/resolve/{} - Resolving config values", environment);
+
+                try {
+                        ConfigEnvironment env = ConfigEnvironment.from(environment);
+                        OBResolvedConfigListDTO resolved = configResolutionService.resolveAll(env,
+                                        request.getReqData().getPropKeys());
+
+                        OBBaseResponseDTO<OBResolvedConfigListDTO> response = OBBaseResponseDTO
+                                        .<OBResolvedConfigListDTO>builder()
+                                        .clientTraceNo(request.getClientTraceNo())
+                                        .success(true)
+                                        .statusCode("200")
+                                        .statusDescription("OK")
+                                        .message("Resolved " + resolved.getValues().size() + " of "
+                                                        + request.getReqData().getPropKeys().size() + " configuration properties")
+                                        .reqData(resolved)
+                                        .build();
+
+                        return ResponseEntity.ok(response);
+
+                } catch (IllegalArgumentException e) {
+                        log.warn("Invalid resolve request: {}", e.getMessage());
+                        return errorResponse(HttpStatus.BAD_REQUEST, "Bad Request", e.getMessage());
+
+                } catch (Exception e) {
+                        log.error("Error resolving configuration values", e);
+                        return errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error",
+                                        "Failed to resolve configurations: " + e.getMessage());
+                }
+        }
+
+        private static boolean acceptsGzip(String acceptEncoding) {
+                if (acceptEncoding == null) {
+                        return false;
+                }
+                for (String coding : acceptEncoding.split(",")) {
+                        String[] parts = coding.split(";");
+                        String name = parts[0].trim();
+                        boolean refused = parts.length > 1 && parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+                        if (("gzip".equalsIgnoreCase(name) || "*".equals(name)) && !refused) {
+                                return true;
+                        }
+                }
+                return false;
+        }
+
+        private static <T> ResponseEntity<OBBaseResponseDTO<T>> errorResponse(HttpStatus status, String description,
+                        String message) {
+
+                OBBaseResponseDTO<T> errorResponse = OBBaseResponseDTO.<T>builder()
+                                .success(false)
+                                .statusCode(String.valueOf(status.value()))
+                                .statusDescription(description)
+                                .message(message)
+                                .reqData(null)
+                                .build();
+
+                return ResponseEntity.status(status).body(errorResponse);
+        }
+}
@@ -0,0 +1,142 @@
+package com.clean.backoffice.controller;
+
+import com.clean.backoffice.cache.ConfigNearCache;
+import com.clean.backoffice.cache.ConfigNearCacheStats;
+import com.clean.common.base.cache.QueryCacheStats;
+import com.clean.common.base.cache.QueryResultCache;
+import com.clean.common.base.dto.OBBaseResponseDTO;
+import com.clean.common.base.resilience.AdaptiveConcurrencyLimiter;
+import com.clean.common.base.service.DatabaseExecutor;
+import com.clean.common.config.SecondLevelCacheStatistics;
+import com.clean.common.diagnostics.VirtualThreadPinningMonitor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller exposing runtime metrics of the backoffice service.
+ * <p>
+ * Base URL: /backoffice/api/v1/metrics
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/v1/metrics")
+@RequiredArgsConstructor
+@Slf4j
+public class MetricsController {
+
+        private final QueryResultCache queryResultCache;
+        private final SecondLevelCacheStatistics secondLevelCacheStatistics;
+        private final ConfigNearCache configNearCache;
+        private final VirtualThreadPinningMonitor virtualThreadPinningMonitor;
+        private final DatabaseExecutor databaseExecutor;
+        private final AdaptiveConcurrencyLimiter databaseConcurrencyLimiter;
+
+        @GetMapping("/query-cache")
+        public ResponseEntity<OBBaseResponseDTO<QueryCacheStats>> getQueryCacheStats() {
+                log.debug("GET /api/v1/metrics/query-cache - Retrieving query cache statistics");
+
+                QueryCacheStats stats = queryResultCache.stats();
+
+                OBBaseResponseDTO<QueryCacheStats> response = OBBaseResponseDTO.<QueryCacheStats>builder()
+                                .success(true)
+                                .statusCode("200")
+                                .statusDescription("OK")
+                                .message("Query cache statistics retrieved successfully")
+                                .reqData(stats)
+                                .build();
+
+                return ResponseEntity.ok(response);
+        }
+
+        @GetMapping("/second-level-cache")
+        public ResponseEntity<OBBaseResponseDTO<SecondLevelCacheStatistics.Snapshot>> getSecondLevelCacheStats() {
+                log.debug("GET /api/v1/metrics/second-level-cache - Retrieving second-level cache statistics");
+
+                SecondLevelCacheStatistics.Snapshot stats = secondLevelCacheStatistics.snapshot();
+
+                OBBaseResponseDTO<SecondLevelCacheStatistics.Snapshot> response = OBBaseResponseDTO
+                                .<SecondLevelCacheStatistics.Snapshot>builder()
+                                .success(true)
+                                .statusCode("200")
+                                .statusDescription("OK")
+                                .message("Second-level cache statistics retrieved successfully")
+                                .reqData(stats)
+                                .build();
+
+                return ResponseEntity.ok(response);
+        }
+
+        @GetMapping("/config-near-cache")
+        public ResponseEntity<OBBaseResponseDTO<ConfigNearCacheStats>> getConfigNearCacheStats() {
+                log.debug("GET /api/v1/metrics/config-near-cache - Retrieving config near-cache statistics");
+
+                ConfigNearCacheStats stats = configNearCache.stats();
+
+                OBBaseResponseDTO<ConfigNearCacheStats> response = OBBaseResponseDTO.<ConfigNearCacheStats>builder()
+                                .success(true)
+                                .statusCode("200")
+                                .statusDescription("OK")
+                                .message("Config near-cache statistics retrieved successfully")
+                                .reqData(stats)
+                                .build();
+
+                return ResponseEntity.ok(response);
+        }
+
+        @GetMapping("/virtual-thread-pinning")
+        public ResponseEntity<OBBaseResponseDTO<VirtualThreadPinningMonitor.PinningStats>> getVirtualThreadPinningStats() {
+                log.debug("GET /api/v1/metrics/virtual-thread-pinning - Retrieving virtual thread pinning statistics");
+
+                VirtualThreadPinningMonitor.PinningStats stats = virtualThreadPinningMonitor.stats();
+
+                OBBaseResponseDTO<VirtualThreadPinningMonitor.PinningStats> response = OBBaseResponseDTO
+                                .<VirtualThreadPinningMonitor.PinningStats>builder()
+                                .success(true)
+                                .statusCode("200")
+                                .statusDescription("OK")
+                                .message("Virtual thread pinning statistics retrieved successfully")
+                                .reqData(stats)
+                                .build();
+
+                return ResponseEntity.ok(response);
+        }
+
+        @GetMapping("/db-executor")
+        public ResponseEntity<OBBaseResponseDTO<DatabaseExecutor.Stats>> getDatabaseExecutorStats() {
+                log.debug("GET /api/v1/metrics/db-executor - Retrieving database executor statistics");
+
+                DatabaseExecutor.Stats stats = databaseExecutor.stats();
+
+                OBBaseResponseDTO<DatabaseExecutor.Stats> response = OBBaseResponseDTO.<DatabaseExecutor.Stats>builder()
+                                .success(true)
+                                .statusCode("200")
+                                .statusDescription("OK")
+                                .message("Database executor statistics retrieved successfully")
+                                .reqData(stats)
+                                .build();
+
+                return ResponseEntity.ok(response);
+        }
+
+        @GetMapping("/db-concurrency-limit")
+        public ResponseEntity<OBBaseResponseDTO<AdaptiveConcurrencyLimiter.Stats>> getDatabaseConcurrencyLimitStats() {
+                log.debug("GET /api/v1/metrics/db-concurrency-limit - Retrieving database concurrency limiter statistics");
+
+                AdaptiveConcurrencyLimiter.Stats stats = databaseConcurrencyLimiter.stats();
+
+                OBBaseResponseDTO<AdaptiveConcurrencyLimiter.Stats> response = OBBaseResponseDTO
+                                .<AdaptiveConcurrencyLimiter.Stats>builder()
+                                .success(true)
+                                .statusCode("200")
+                                .statusDescription("OK")
+                                .message("Database concurrency limiter statistics retrieved successfully")
+                                .reqData(stats)
+                                .build();
+
+                return ResponseEntity.ok(response);
+        }
+}
@@ -0,0 +1,19 @@
+package com.clean.backoffice.crypto;
+
+import java.util.Optional;
+
+import javax.crypto.SecretKey;
+
+/**
+ * Supplies the AES keys used by {@link ConfigValueCipher}. New values are encrypted with the
+ * active key; older values name the key they were encrypted with.
+ */
+public interface ConfigKeyProvider {
+
+    /**
+     * Returns the id of the key new values are encrypted with, or empty when no key is configured.
+     */
+    Optional<String> activeKeyId();
+
+    Optional<SecretKey> key(String keyId);
+}
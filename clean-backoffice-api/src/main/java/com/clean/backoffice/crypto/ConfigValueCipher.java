@@ -0,0 +1,138 @@
+package com.clean.backoffice.crypto;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AES-GCM encryption of sensitive TBL_CLEAN_CONFIG values.
+ * <p>
+ * Stored form: {@value #MARKER}{@code <keyId>:<Base64(12-byte IV | ciphertext | 128-bit tag)>}.
+ * Values are decrypted only on explicit request, and the plaintext is kept in a small
+ * short-TTL cache keyed by the stored form, so repeated reads of a hot secret cost one lookup.
+ * A new IV per encryption makes every stored form unique, so an update can never hit a stale
+ * cache entry.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ConfigValueCipher {
+
+    public static final String MARKER = "\u001Fenc1:";
+    public static final String MASK = "******";
+
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int IV_BYTES = 12;
+    private static final int TAG_BITS = 128;
+
+    private final ConfigKeyProvider keyProvider;
+    private final SecureRandom random = new SecureRandom();
+    private final Cache<String, String> plaintextCache;
+
+    public ConfigValueCipher(
+            ConfigKeyProvider keyProvider,
+            @Value("${clean.config.encryption.cache.max-entries:1000}") long maxEntries,
+            @Value("${clean.config.encryption.cache.ttl-seconds:60}") long ttlSeconds) {
+        this.keyProvider = keyProvider;
+        this.plaintextCache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public static boolean isEncrypted(String value) {
+        return value != null && value.startsWith(MARKER);
+    }
+
+    /**
+     * Returns {@link #MASK} for a non-null value of a sensitive or encrypted property, else the value.
+     */
+    public static String mask(String value, boolean sensitive) {
+        return value != null && (sensitive || isEncrypted(value)) ? MASK : value;
+    }
+
+    /**
+     * Whether new sensitive values can be encrypted, i.e. an active key is configured.
+     */
+    public boolean isEnabled() {
+        return keyProvider.activeKeyId().isPresent();
+    }
+
+    /**
+     * Encrypts with the active key. Null and already encrypted values are returned unchanged.
+     *
+     * @throws IllegalStateException if no key is configured
+     */
+    public String encrypt(String plaintext) {
+        if (plaintext == null || isEncrypted(plaintext)) {
+            return plaintext;
+        }
+
+        String keyId = keyProvider.activeKeyId()
+                .orElseThrow(() -> new IllegalStateException("No config encryption key configured"));
+        SecretKey key = keyProvider.key(keyId)
+                .orElseThrow(() -> new IllegalStateException("Unknown config encryption key " + keyId));
+
+        try {
+            byte[] iv = new byte[IV_BYTES];
+            random.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+            byte[] ciphertext = cipher.doFinal(plaintext.getBytes(StandardCharsets.UTF_8));
+
+            byte[] payload = ByteBuffer.allocate(iv.length + ciphertext.length).put(iv).put(ciphertext).array();
+            return MARKER + keyId + ":" + Base64.getEncoder().encodeToString(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to encrypt config value", e);
+        }
+    }
+
+    /**
+     * Decrypts a stored value, served from the plaintext cache when possible. Values without
+     * the marker are returned unchanged.
+     *
+     * @throws IllegalStateException if the key is unknown or the value was tampered with
+     */
+    public String decrypt(String stored) {
+        if (!isEncrypted(stored)) {
+            return stored;
+        }
+        return plaintextCache.get(stored, this::decryptUncached);
+    }
+
+    private String decryptUncached(String stored) {
+        int separator = stored.indexOf(':', MARKER.length());
+        if (separator < 0) {
+            throw new IllegalStateException("Malformed encrypted config value");
+        }
+
+        String keyId = stored.substring(MARKER.length(), separator);
+        SecretKey key = keyProvider.key(keyId)
+                .orElseThrow(() -> new IllegalStateException("Unknown config encryption key " + keyId));
+
+        try {
+            byte[] payload = Base64.getDecoder().decode(stored.substring(separator + 1));
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, payload, 0, IV_BYTES));
+            byte[] plaintext = cipher.doFinal(payload, IV_BYTES, payload.length - IV_BYTES);
+            return new String(plaintext, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Failed to decrypt config value with key " + keyId, e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.clean.backoffice.crypto;
+
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link ConfigKeyProvider} reading Base64 AES keys from configuration, normally injected from
+ * a Kubernetes secret through environment variables.
+ * <ul>
+ * <li>{@code clean.config.encryption.key-id} / {@code clean.config.encryption.key}: the active key</li>
+ * <li>{@code clean.config.encryption.previous-keys}: {@code id:base64} pairs, comma-separated,
+ * still accepted for decryption after a rotation</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class LocalConfigKeyProvider implements ConfigKeyProvider {
+
+    private final String activeKeyId;
+    private final Map<String, SecretKey> keys = new HashMap<>();
+
+    public LocalConfigKeyProvider(
+            @Value("${clean.config.encryption.key-id:local-1}") String activeKeyId,
+            @Value("${clean.config.encryption.key:}") String activeKey,
+            @Value("${clean.config.encryption.previous-keys:}") String previousKeys) {
+
+        for (String pair : previousKeys.split(",")) {
+            int separator = pair.indexOf(':');
+            if (separator > 0) {
+                keys.put(pair.substring(0, separator).trim(), toKey(pair.substring(separator + 1).trim()));
+            }
+        }
+
+        if (activeKey.isBlank()) {
+            this.activeKeyId = null;
+            log.warn("No config encryption key configured; sensitive values are stored in plain text");
+        } else {
+            this.activeKeyId = activeKeyId;
+            keys.put(activeKeyId, toKey(activeKey.trim()));
+            log.info("LocalConfigKeyProvider initialized: active key {}, {} keys in total", activeKeyId, keys.size());
+        }
+    }
+
+    @Override
+    public Optional<String> activeKeyId() {
+        return Optional.ofNullable(activeKeyId);
+    }
+
+    @Override
+    public Optional<SecretKey> key(String keyId) {
+        return Optional.ofNullable(keys.get(keyId));
+    }
+
+    private static SecretKey toKey(String base64) {
+        byte[] bytes = Base64.getDecoder().decode(base64);
+        if (bytes.length != 16 && bytes.length != 24 && bytes.length != 32) {
+            throw new IllegalArgumentException("AES key must be 128, 192 or 256 bits, got " + bytes.length * 8);
+        }
+        return new SecretKeySpec(bytes, "AES");
+    }
+}
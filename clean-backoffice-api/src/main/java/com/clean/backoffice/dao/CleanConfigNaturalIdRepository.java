@@ -0,0 +1,11 @@
+package com.clean.backoffice.dao;
+
+import com.clean.backoffice.entity.CleanConfigEntity;
+import com.clean.common.base.repository.NaturalIdRepository;
+
+/**
+ * Natural-id lookups of CleanConfigEntity by {@code propKey}.
+ * Served from the natural-id and entity second-level cache regions once warm.
+ */
+public interface CleanConfigNaturalIdRepository extends NaturalIdRepository<CleanConfigEntity, String> {
+}
@@ -0,0 +1,17 @@
+package com.clean.backoffice.dao;
+
+import com.clean.backoffice.entity.CleanConfigEntity;
+import com.clean.common.base.repository.AbstractNaturalIdRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Spring Data fragment implementation of {@link CleanConfigNaturalIdRepository}.
+ */
+public class CleanConfigNaturalIdRepositoryImpl extends AbstractNaturalIdRepository<CleanConfigEntity, String>
+        implements CleanConfigNaturalIdRepository {
+
+    public CleanConfigNaturalIdRepositoryImpl(EntityManager entityManager) {
+        super(entityManager, CleanConfigEntity.class);
+    }
+}
@@ -0,0 +1,35 @@
+package com.clean.backoffice.dao;
+
+import java.util.List;
+
+import com.clean.backoffice.constant.ConfigEnvironment;
+
+/**
+ * Set-based copies of one environment value column to another in TBL_CLEAN_CONFIG.
+ */
+public interface CleanConfigPromotionRepository {
+
+    /**
+     * Rows whose target value differs from the source value, in id order.
+     *
+     * @param category  optional exact category
+     * @param keyPrefix optional property key prefix
+     * @param propKeys  optional exact property keys
+     * @param afterId   return only ids greater than this (keyset paging)
+     * @param limit     maximum rows to return
+     * @param forUpdate lock the returned rows until the transaction ends
+     */
+    List<PromotionCandidate> findPromotionCandidates(ConfigEnvironment source, ConfigEnvironment target,
+            String category, String keyPrefix, List<String> propKeys, long afterId, int limit, boolean forUpdate);
+
+    /**
+     * Copies the source value to the target value of the given rows in one statement, skipping
+     * rows where they are already equal. Evicts the entity's second-level cache regions.
+     *
+     * @return number of rows changed
+     */
+    int copyValues(ConfigEnvironment source, ConfigEnvironment target, List<Long> ids);
+
+    record PromotionCandidate(Long id, String propKey) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.clean.backoffice.dao;
+
+import java.util.List;
+
+import org.hibernate.query.NativeQuery;
+
+import com.clean.backoffice.constant.ConfigEnvironment;
+import com.clean.backoffice.entity.CleanConfigEntity;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+/**
+ * Spring Data fragment implementation of {@link CleanConfigPromotionRepository}.
+ * <p>
+ * Column names come from {@link ConfigEnvironment} constants and are inlined; everything else
+ * is bound. Updates declare {@link CleanConfigEntity} as their only synchronized entity, so
+ * Hibernate evicts just its entity and natural-id regions instead of every cache region.
+ * </p>
+ */
+public class CleanConfigPromotionRepositoryImpl implements CleanConfigPromotionRepository {
+
+    private final EntityManager entityManager;
+
+    public CleanConfigPromotionRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<PromotionCandidate> findPromotionCandidates(ConfigEnvironment source, ConfigEnvironment target,
+            String category, String keyPrefix, List<String> propKeys, long afterId, int limit, boolean forUpdate) {
+
+        StringBuilder sql = new StringBuilder("SELECT id, prop_key FROM TBL_CLEAN_CONFIG WHERE id > :afterId AND NOT (")
+                .append(target.getColumnName()).append(" <=> ").append(source.getColumnName()).append(')');
+        if (category != null && !category.isBlank()) {
+            sql.append(" AND category = :category");
+        }
+        if (keyPrefix != null && !keyPrefix.isBlank()) {
+            sql.append(" AND prop_key LIKE :keyPrefix ESCAPE '!'");
+        }
+        if (propKeys != null && !propKeys.isEmpty()) {
+            sql.append(" AND prop_key IN (:propKeys)");
+        }
+        sql.append(" ORDER BY id LIMIT :limit");
+        if (forUpdate) {
+            sql.append(" FOR UPDATE");
+        }
+
+        Query query = entityManager.createNativeQuery(sql.toString())
+                .setParameter("afterId", afterId)
+                .setParameter("limit", limit);
+        if (category != null && !category.isBlank()) {
+            query.setParameter("category", category.trim());
+        }
+        if (keyPrefix != null && !keyPrefix.isBlank()) {
+            query.setParameter("keyPrefix",
+                    keyPrefix.trim().replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%");
+        }
+        if (propKeys != null && !propKeys.isEmpty()) {
+            query.setParameter("propKeys", propKeys);
+        }
+
+        return ((List<Object[]>) query.getResultList()).stream()
+                .map(row -> new PromotionCandidate(((Number) row[0]).longValue(), (String) row[1]))
+                .toList();
+    }
+
+    @Override
+    public int copyValues(ConfigEnvironment source, ConfigEnvironment target, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        // updated_on advances through its ON UPDATE clause, only on rows that actually change;
+        // version is advanced by hand so updates based on an older copy of the row fail
+        String sql = "UPDATE TBL_CLEAN_CONFIG SET " + target.getColumnName() + " = " + source.getColumnName()
+                + ", version = version + 1 WHERE id IN (:ids) AND NOT (" + target.getColumnName() + " <=> " + source.getColumnName() + ")";
+
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(CleanConfigEntity.class)
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+}
@@ -8,8 +8,11 @@ import org.springframework.stereotype.Repository;
 /**
  * Repository for CleanConfigEntity - environment-specific configuration
  * properties.
- * Provides standard CRUD operations through JpaRepository and dynamic filtering through JpaSpecificationExecutor.
+ * Provides standard CRUD operations through JpaRepository, dynamic filtering through JpaSpecificationExecutor
+ * cached by-key lookups through CleanConfigNaturalIdRepository and set-based environment
+ * promotion through CleanConfigPromotionRepository.
  */
 @Repository
-public interface CleanConfigRepository extends JpaRepository<CleanConfigEntity, Long>, JpaSpecificationExecutor<CleanConfigEntity> {
+public interface CleanConfigRepository extends JpaRepository<CleanConfigEntity, Long>, JpaSpecificationExecutor<CleanConfigEntity>,
+        CleanConfigNaturalIdRepository, CleanConfigPromotionRepository {
 }
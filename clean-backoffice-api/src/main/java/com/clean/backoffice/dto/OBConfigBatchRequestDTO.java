@@ -0,0 +1,38 @@
+package com.clean.backoffice.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+import com.clean.common.base.dto.OBBaseRequestDTO;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Ordered operations run in one call. Each operation is a regular request whose {@code mode}
+ * names the operation ({@code findByCriteria}, {@code findListByCriteria},
+ * {@code findPageByCriteria}, {@code findByPropKey}, {@code add} or {@code update}) and whose
+ * {@code reqData} is that operation's usual payload.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class OBConfigBatchRequestDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * When true (the default), all operations share one transaction and the first failure rolls
+     * back the whole batch. When false, every operation commits on its own and consecutive
+     * read-only operations run in parallel.
+     */
+    private Boolean atomic;
+
+    @NotEmpty
+    private List<OBBaseRequestDTO<JsonNode>> operations;
+}
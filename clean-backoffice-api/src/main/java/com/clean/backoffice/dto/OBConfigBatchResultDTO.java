@@ -0,0 +1,50 @@
+package com.clean.backoffice.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.clean.common.base.dto.OBBaseResponseDTO;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Outcome of a batch: one response per operation, in request order.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OBConfigBatchResultDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Boolean atomic;
+
+    /**
+     * True when an atomic batch failed and none of its writes were committed.
+     */
+    private Boolean rolledBack;
+
+    private int succeeded;
+
+    private int failed;
+
+    @Builder.Default
+    private List<OBBaseResponseDTO<Object>> results = new ArrayList<>();
+
+    /**
+     * True when any operation failed with a server error (5xx).
+     */
+    public boolean hasServerError() {
+        return results != null && results.stream()
+                .anyMatch(result -> result.getStatusCode() != null && result.getStatusCode().startsWith("5"));
+    }
+}
@@ -0,0 +1,62 @@
+package com.clean.backoffice.dto;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Payload of one configuration change pushed over the config stream.
+ * <p>
+ * {@code watermark} doubles as the SSE event id; a reconnecting client sends the last one it
+ * received to resume from there.
+ * </p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OBConfigChangeEventDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private String propKey;
+
+    /**
+     * True when the key no longer exists; all other fields except {@code propKey} are then absent.
+     */
+    private Boolean deleted;
+
+    private String category;
+
+    private String dataType;
+
+    /**
+     * Raw values keyed by environment name (DEV, SIT, UAT, PROD, DR); environments without a
+     * value are absent.
+     */
+    private Map<String, String> values;
+
+    private LocalDateTime updatedOn;
+
+    /**
+     * {@code updated_on} watermark of the change; resume with {@code since} or Last-Event-ID.
+     */
+    private LocalDateTime watermark;
+
+    /**
+     * Version of the backoffice snapshot that contained this change (local to one instance).
+     */
+    private Long snapshotVersion;
+}
@@ -0,0 +1,41 @@
+package com.clean.backoffice.dto;
+
+import java.io.Serializable;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One configuration property whose value differs between the compared environments.
+ * <p>
+ * {@code values} maps each compared environment to its value; an environment without a value
+ * is present with null. Values of sensitive properties are masked.
+ * </p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OBConfigDiffDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String propKey;
+
+    private String category;
+
+    private String dataType;
+
+    private Boolean sensitive;
+
+    @JsonInclude(JsonInclude.Include.ALWAYS)
+    private Map<String, String> values;
+}
@@ -0,0 +1,41 @@
+package com.clean.backoffice.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Copies the {@code sourceEnvironment} value of every matching property to
+ * {@code targetEnvironment}. Filters are optional and combined with AND; without any filter
+ * every property is promoted.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class OBConfigPromotionRequestDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @NotBlank
+    private String sourceEnvironment;
+
+    @NotBlank
+    private String targetEnvironment;
+
+    private String category;
+
+    private String keyPrefix;
+
+    private List<String> propKeys;
+
+    /**
+     * When true, only reports what would change.
+     */
+    private Boolean dryRun;
+}
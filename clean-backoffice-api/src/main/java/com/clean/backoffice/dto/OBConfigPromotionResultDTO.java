@@ -0,0 +1,39 @@
+package com.clean.backoffice.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Outcome of an environment promotion: the keys whose target value was (or, on a dry run,
+ * would be) replaced.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OBConfigPromotionResultDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String sourceEnvironment;
+
+    private String targetEnvironment;
+
+    private Boolean dryRun;
+
+    private int count;
+
+    @Builder.Default
+    private List<String> changedKeys = new ArrayList<>();
+}
@@ -0,0 +1,22 @@
+package com.clean.backoffice.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class OBConfigResolveRequestDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @NotEmpty
+    private List<String> propKeys;
+}
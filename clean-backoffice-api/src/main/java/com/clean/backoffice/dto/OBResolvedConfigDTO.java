@@ -0,0 +1,42 @@
+package com.clean.backoffice.dto;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A configuration value resolved for one environment, already decoded according to its
+ * {@code dataType} (number, boolean, JSON tree or string).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OBResolvedConfigDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String propKey;
+
+    private String environment;
+
+    private String dataType;
+
+    private String category;
+
+    /**
+     * Decoded value: Long for "int", Boolean for "boolean", JSON tree for "json", String otherwise.
+     */
+    private Object value;
+
+    private LocalDateTime updatedOn;
+}
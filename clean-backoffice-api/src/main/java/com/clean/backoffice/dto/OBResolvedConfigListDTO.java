@@ -0,0 +1,42 @@
+package com.clean.backoffice.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Result of a multi-key resolution against a single config snapshot.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OBResolvedConfigListDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String environment;
+
+    /**
+     * Version of the snapshot every value was read from.
+     */
+    private long snapshotVersion;
+
+    @Builder.Default
+    private Map<String, OBResolvedConfigDTO> values = new LinkedHashMap<>();
+
+    @Builder.Default
+    private List<String> missingKeys = new ArrayList<>();
+}
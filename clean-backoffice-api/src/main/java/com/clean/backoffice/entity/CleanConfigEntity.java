@@ -1,11 +1,14 @@
 package com.clean.backoffice.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -13,21 +16,55 @@ import lombok.Setter;
 
 import java.time.LocalDateTime;
 
+import com.clean.common.base.converter.CompressedTextConverter;
+import com.clean.common.base.history.HistoryTable;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.CurrentTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.SourceType;
+import org.hibernate.generator.EventType;
+
 /**
  * Entity for TBL_CLEAN_CONFIG table - environment-specific configuration properties.
  * <p>
  * This entity uses a wide table design with separate value columns for each environment:
  * dev, sit, uat, prod, dr.
  * </p>
+ * <p>
+ * Cached in the second-level cache region {@value #CACHE_REGION}; lookups by
+ * {@code propKey} go through the natural-id cache region {@value #NATURAL_ID_CACHE_REGION}.
+ * </p>
+ * <p>
+ * Large environment values are stored deflated when compression is enabled; see
+ * {@link CompressedTextConverter}.
+ * </p>
+ * <p>
+ * Every committed write is appended to {@value #HISTORY_TABLE}.
+ * </p>
+ * <p>
+ * Updates are checked against {@link #version}, so an update based on a stale copy, e.g. one
+ * cached before another instance wrote the row, fails instead of overwriting that write.
+ * </p>
  */
 @Entity
 @Table(name = "TBL_CLEAN_CONFIG")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CleanConfigEntity.CACHE_REGION)
+@NaturalIdCache(region = CleanConfigEntity.NATURAL_ID_CACHE_REGION)
+@HistoryTable(CleanConfigEntity.HISTORY_TABLE)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class CleanConfigEntity {
 
+    public static final String CACHE_REGION = "clean-config";
+    public static final String NATURAL_ID_CACHE_REGION = "clean-config-natural-id";
+    public static final String HISTORY_TABLE = "TBL_CLEAN_CONFIG_HISTORY";
+
     /**
      * Auto-generated surrogate primary key.
      * <p>
@@ -48,6 +85,7 @@ public class CleanConfigEntity {
      * Maps to: prop_key VARCHAR(255) NOT NULL UNIQUE
      * </p>
      */
+    @NaturalId(mutable = true)
     @Column(name = "prop_key", length = 255, nullable = false, unique = true)
     private String propKey;
 
@@ -58,6 +96,7 @@ public class CleanConfigEntity {
      * </p>
      */
     @Column(name = "dev_value", columnDefinition = "TEXT")
+    @Convert(converter = CompressedTextConverter.class)
     private String devValue;
 
     /**
@@ -67,6 +106,7 @@ public class CleanConfigEntity {
      * </p>
      */
     @Column(name = "sit_value", columnDefinition = "TEXT")
+    @Convert(converter = CompressedTextConverter.class)
     private String sitValue;
 
     /**
@@ -76,6 +116,7 @@ public class CleanConfigEntity {
      * </p>
      */
     @Column(name = "uat_value", columnDefinition = "TEXT")
+    @Convert(converter = CompressedTextConverter.class)
     private String uatValue;
 
     /**
@@ -85,6 +126,7 @@ public class CleanConfigEntity {
      * </p>
      */
     @Column(name = "prod_value", columnDefinition = "TEXT")
+    @Convert(converter = CompressedTextConverter.class)
     private String prodValue;
 
     /**
@@ -94,6 +136,7 @@ public class CleanConfigEntity {
      * </p>
      */
     @Column(name = "dr_value", columnDefinition = "TEXT")
+    @Convert(converter = CompressedTextConverter.class)
     private String drValue;
 
     /**
@@ -150,7 +193,11 @@ public class CleanConfigEntity {
      * <p>
      * Maps to: created_on DATETIME DEFAULT CURRENT_TIMESTAMP
      * </p>
+     * <p>
+     * Generated from the database clock on insert.
+     * </p>
      */
+    @CurrentTimestamp(event = EventType.INSERT, source = SourceType.DB)
     @Column(name = "created_on", updatable = false)
     private LocalDateTime createdOn;
 
@@ -168,7 +215,13 @@ public class CleanConfigEntity {
      * <p>
      * Maps to: updated_on DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
      * </p>
+     * <p>
+     * Generated from the database clock on insert and update. Hibernate always writes this
+     * column explicitly, which suppresses MariaDB's ON UPDATE clause, so the value must be
+     * generated here for the delta-sync watermark to advance.
+     * </p>
      */
+    @CurrentTimestamp(event = { EventType.INSERT, EventType.UPDATE }, source = SourceType.DB)
     @Column(name = "updated_on")
     private LocalDateTime updatedOn;
 
@@ -181,6 +234,16 @@ public class CleanConfigEntity {
     @Column(name = "updated_by", length = 255)
     private String updatedBy;
 
+    /**
+     * Optimistic lock version, incremented by every update.
+     * <p>
+     * Maps to: version BIGINT NOT NULL DEFAULT 0
+     * </p>
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     /**
      * Constructor with property key.
      *
@@ -0,0 +1,259 @@
+package com.clean.backoffice.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.clean.common.base.dto.OBBaseRequestDTO;
+import com.clean.common.base.dto.OBBaseResponseDTO;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Makes write endpoints idempotent on {@code clientTraceNo}.
+ * <p>
+ * The first request with a given trace number runs and its response is kept in the
+ * {@link IdempotencyStore}; a retry with the same trace number gets that response back without
+ * running again, so no query reaches the database. Duplicates arriving while the first request
+ * is still running wait for its response: in this process on a shared future, across instances
+ * by polling the store while the first instance holds the claim.
+ * </p>
+ * <p>
+ * Server errors (5xx) are not kept, so a retry after one runs again; neither are responses the
+ * caller flags as holding one, such as a batch with a failed item. Reusing a trace number for a
+ * different payload is answered with 422. Requests without a trace number are not tracked.
+ * </p>
+ */
+@Slf4j
+@Component
+public class IdempotencyService {
+
+    private static final long POLL_INTERVAL_MS = 50;
+
+    private final IdempotencyStore store;
+    private final JsonMapper jsonMapper;
+    private final Duration waitTimeout;
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(
+            IdempotencyStore store,
+            JsonMapper jsonMapper,
+            @Value("${clean.idempotency.wait-timeout-ms:30000}") long waitTimeoutMs) {
+        this.store = store;
+        this.jsonMapper = jsonMapper;
+        this.waitTimeout = Duration.ofMillis(waitTimeoutMs);
+    }
+
+    /**
+     * Runs {@code action} once per {@code operation} and trace number of {@code request}, and
+     * replays its response for every repetition.
+     *
+     * @param operation    name of the write, keeping trace numbers of different endpoints apart
+     * @param request      the request, whose {@code clientTraceNo} and {@code reqData} identify it
+     * @param responseType type of the response envelope, used to read replays
+     * @param action       the write
+     */
+    public <T> ResponseEntity<OBBaseResponseDTO<T>> execute(String operation, OBBaseRequestDTO<?> request,
+            TypeReference<OBBaseResponseDTO<T>> responseType, Supplier<ResponseEntity<OBBaseResponseDTO<T>>> action) {
+        return execute(operation, request, responseType, action, body -> false);
+    }
+
+    /**
+     * Like {@link #execute(String, OBBaseRequestDTO, TypeReference, Supplier)}, for writes whose
+     * response can carry a server error below a non-5xx status.
+     *
+     * @param hasServerError tells whether a response body holds a server error; such a response
+     *                       is returned but not kept, so a retry runs again
+     */
+    public <T> ResponseEntity<OBBaseResponseDTO<T>> execute(String operation, OBBaseRequestDTO<?> request,
+            TypeReference<OBBaseResponseDTO<T>> responseType, Supplier<ResponseEntity<OBBaseResponseDTO<T>>> action,
+            Predicate<OBBaseResponseDTO<T>> hasServerError) {
+
+        String traceNo = request.getClientTraceNo();
+        if (traceNo == null || traceNo.isBlank()) {
+            return action.get();
+        }
+
+        String key = operation + ":" + traceNo;
+        String fingerprint = fingerprint(request.getReqData());
+        JavaType type = jsonMapper.constructType(responseType);
+
+        Optional<StoredResponse> stored = find(key);
+        if (stored.isPresent()) {
+            return replay(stored.get(), fingerprint, key, type);
+        }
+
+        CompletableFuture<StoredResponse> execution = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> first = inFlight.putIfAbsent(key, execution);
+        if (first != null) {
+            log.debug("Waiting for in-flight execution of {}", key);
+            return await(first, fingerprint, key, type);
+        }
+
+        try {
+            if (!claim(key)) {
+                log.debug("{} is running on another instance, waiting for its response", key);
+                StoredResponse response = pollStore(key);
+                execution.complete(response);
+                return response != null ? replay(response, fingerprint, key, type) : inProgress();
+            }
+
+            try {
+                // An earlier execution may have stored its response and let go of the future and
+                // the claim after the first lookup; it must not run again
+                Optional<StoredResponse> completed = find(key);
+                if (completed.isPresent()) {
+                    execution.complete(completed.get());
+                    return replay(completed.get(), fingerprint, key, type);
+                }
+
+                ResponseEntity<OBBaseResponseDTO<T>> response = action.get();
+                StoredResponse result = new StoredResponse(fingerprint, response.getStatusCode().value(),
+                        jsonMapper.writeValueAsString(response.getBody()));
+                if (!response.getStatusCode().is5xxServerError()
+                        && (response.getBody() == null || !hasServerError.test(response.getBody()))) {
+                    save(key, result);
+                }
+                execution.complete(result);
+                return response;
+            } finally {
+                release(key);
+            }
+        } catch (RuntimeException e) {
+            execution.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, execution);
+            // Waiters of an unfinished execution (e.g. an Error thrown by the action) must not hang
+            execution.complete(null);
+        }
+    }
+
+    private <T> ResponseEntity<OBBaseResponseDTO<T>> await(CompletableFuture<StoredResponse> first,
+            String fingerprint, String key, JavaType type) {
+        try {
+            StoredResponse response = first.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            return response != null ? replay(response, fingerprint, key, type) : inProgress();
+        } catch (ExecutionException | TimeoutException e) {
+            return inProgress();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return inProgress();
+        }
+    }
+
+    private StoredResponse pollStore(String key) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            Optional<StoredResponse> stored = find(key);
+            if (stored.isPresent()) {
+                return stored.get();
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private <T> ResponseEntity<OBBaseResponseDTO<T>> replay(StoredResponse stored, String fingerprint, String key,
+            JavaType type) {
+        if (!stored.fingerprint().equals(fingerprint)) {
+            log.warn("clientTraceNo of {} reused with a different request", key);
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_CONTENT).body(OBBaseResponseDTO.<T>builder()
+                    .success(false)
+                    .statusCode("422")
+                    .statusDescription("Unprocessable Content")
+                    .message("clientTraceNo was already used for a different request")
+                    .build());
+        }
+
+        log.debug("Replaying stored response of {}", key);
+        OBBaseResponseDTO<T> body = jsonMapper.readValue(stored.body(), type);
+        return ResponseEntity.status(stored.status()).body(body);
+    }
+
+    private static <T> ResponseEntity<OBBaseResponseDTO<T>> inProgress() {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(OBBaseResponseDTO.<T>builder()
+                .success(false)
+                .statusCode("409")
+                .statusDescription("Conflict")
+                .message("A request with this clientTraceNo is still in progress, retry later")
+                .build());
+    }
+
+    // The store is an optimization: when it is unreachable, writes run unprotected rather than fail
+
+    private Optional<StoredResponse> find(String key) {
+        try {
+            return store.find(key).map(value -> jsonMapper.readValue(value, StoredResponse.class));
+        } catch (RuntimeException e) {
+            log.warn("Idempotency store lookup of {} failed: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void save(String key, StoredResponse response) {
+        try {
+            store.store(key, jsonMapper.writeValueAsString(response));
+        } catch (RuntimeException e) {
+            log.warn("Could not store response of {}: {}", key, e.getMessage());
+        }
+    }
+
+    private boolean claim(String key) {
+        try {
+            return store.claim(key, waitTimeout);
+        } catch (RuntimeException e) {
+            log.warn("Idempotency claim of {} failed: {}", key, e.getMessage());
+            return true;
+        }
+    }
+
+    private void release(String key) {
+        try {
+            store.release(key);
+        } catch (RuntimeException e) {
+            log.warn("Idempotency claim of {} could not be released: {}", key, e.getMessage());
+        }
+    }
+
+    private String fingerprint(Object reqData) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] payload = reqData != null ? jsonMapper.writeValueAsBytes(reqData)
+                    : "null".getBytes(StandardCharsets.UTF_8);
+            return HexFormat.of().formatHex(digest.digest(payload));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * A kept response: the payload fingerprint, the HTTP status and the serialized envelope.
+     */
+    record StoredResponse(String fingerprint, int status, String body) {
+    }
+}
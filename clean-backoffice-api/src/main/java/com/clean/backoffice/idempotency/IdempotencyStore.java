@@ -0,0 +1,25 @@
+package com.clean.backoffice.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Holds the responses of completed idempotent writes, and claims for writes in flight, for
+ * {@link IdempotencyService}. Values are opaque serialized strings.
+ */
+public interface IdempotencyStore {
+
+    Optional<String> find(String key);
+
+    void store(String key, String response);
+
+    /**
+     * Claims the key for one execution across all instances sharing the store.
+     *
+     * @param ttl how long the claim survives an instance dying mid-execution
+     * @return true when this caller now owns the key
+     */
+    boolean claim(String key, Duration ttl);
+
+    void release(String key);
+}
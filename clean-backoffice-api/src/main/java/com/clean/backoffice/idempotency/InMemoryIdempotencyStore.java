@@ -0,0 +1,44 @@
+package com.clean.backoffice.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Single-process {@link IdempotencyStore}, used when Redis is disabled. Responses are kept in a
+ * bounded cache expiring after {@code ttl}. Claims always succeed: within one process
+ * {@link IdempotencyService} already makes duplicates wait for the first execution.
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Cache<String, String> responses;
+
+    public InMemoryIdempotencyStore(long maxEntries, Duration ttl) {
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Override
+    public Optional<String> find(String key) {
+        return Optional.ofNullable(responses.getIfPresent(key));
+    }
+
+    @Override
+    public void store(String key, String response) {
+        responses.put(key, response);
+    }
+
+    @Override
+    public boolean claim(String key, Duration ttl) {
+        return true;
+    }
+
+    @Override
+    public void release(String key) {
+        // Nothing claimed
+    }
+}
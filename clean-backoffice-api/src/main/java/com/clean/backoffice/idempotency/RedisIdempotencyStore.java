@@ -0,0 +1,45 @@
+package com.clean.backoffice.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Redis-backed {@link IdempotencyStore} shared by all backoffice pods. Responses live under
+ * {@code keyPrefix} with a TTL; claims are {@code SET NX} keys with their own short TTL.
+ */
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+    private static final String CLAIM_SUFFIX = ":claim";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final Duration ttl;
+
+    public RedisIdempotencyStore(StringRedisTemplate redisTemplate, String keyPrefix, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Optional<String> find(String key) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(keyPrefix + key));
+    }
+
+    @Override
+    public void store(String key, String response) {
+        redisTemplate.opsForValue().set(keyPrefix + key, response, ttl);
+    }
+
+    @Override
+    public boolean claim(String key, Duration claimTtl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(keyPrefix + key + CLAIM_SUFFIX, "1", claimTtl));
+    }
+
+    @Override
+    public void release(String key) {
+        redisTemplate.delete(keyPrefix + key + CLAIM_SUFFIX);
+    }
+}
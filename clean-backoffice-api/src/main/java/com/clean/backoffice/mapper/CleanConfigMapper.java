@@ -15,4 +15,8 @@ import com.clean.common.base.mapper.BaseEntityMapper;
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE, nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE, builder = @org.mapstruct.Builder(disableBuilder = true))
 public interface CleanConfigMapper extends BaseEntityMapper<CleanConfigEntity, OBConfigDTO> {
 
+    /**
+     * Shallow copy, used to mask values without touching DTOs shared through the caches.
+     */
+    OBConfigDTO copy(OBConfigDTO source);
 }
@@ -1,18 +1,33 @@
 package com.clean.backoffice.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.clean.backoffice.cache.ConfigNearCache;
+import com.clean.backoffice.constant.ConfigEnvironment;
+import com.clean.backoffice.crypto.ConfigValueCipher;
+import com.clean.backoffice.dao.CleanConfigPromotionRepository.PromotionCandidate;
 import com.clean.backoffice.dao.CleanConfigRepository;
 import com.clean.backoffice.dto.OBConfigDTO;
 import com.clean.backoffice.dto.OBConfigFilterDTO;
+import com.clean.backoffice.dto.OBConfigPromotionRequestDTO;
+import com.clean.backoffice.dto.OBConfigPromotionResultDTO;
 import com.clean.backoffice.entity.CleanConfigEntity;
 import com.clean.backoffice.mapper.CleanConfigMapper;
+import com.clean.common.base.cache.EntityVersionRegistry;
+import com.clean.common.base.cache.QueryResultCache;
 import com.clean.common.base.component.DynamicFilterComponent;
 import com.clean.common.base.dto.OBBaseRequestDTO;
+import com.clean.common.base.dto.OBChangeSetDTO;
 import com.clean.common.base.dto.OBPageDTO;
+import com.clean.common.base.history.EntityHistoryWriter;
 import com.clean.common.base.service.BaseJpaService;
 
 import lombok.extern.slf4j.Slf4j;
@@ -23,40 +38,270 @@ import lombok.extern.slf4j.Slf4j;
  * Provides business logic for environment-specific configuration properties
  * stored in TBL_CLEAN_CONFIG table.
  * </p>
+ * <p>
+ * Key lookups and the full list are served through {@link ConfigNearCache}; writes evict
+ * the affected keys on every pod after commit.
+ * </p>
+ * <p>
+ * Values of sensitive properties are stored AES-GCM encrypted through {@link ConfigValueCipher}
+ * and returned as {@link ConfigValueCipher#MASK} by every read here; only
+ * {@link ConfigResolutionService} decrypts them. Cached DTOs keep the stored form and are
+ * copied before masking.
+ * </p>
  */
 @Service
 @Slf4j
 public class CleanConfigService extends BaseJpaService<CleanConfigEntity, OBConfigDTO, OBConfigFilterDTO, CleanConfigRepository> {
 
+    private final ConfigNearCache nearCache;
+    private final CleanConfigMapper configMapper;
+    private final ConfigValueCipher cipher;
+    private final int promotionChunkSize;
+
     public CleanConfigService(
             CleanConfigRepository repository,
             CleanConfigMapper mapper,
-            DynamicFilterComponent filterComponent) {
-        super(repository, mapper, filterComponent);
+            DynamicFilterComponent filterComponent,
+            QueryResultCache queryCache,
+            EntityVersionRegistry versionRegistry,
+            EntityHistoryWriter historyWriter,
+            ConfigNearCache nearCache,
+            ConfigValueCipher cipher,
+            @Value("${clean.config.promotion.chunk-size:500}") int promotionChunkSize) {
+        super(repository, mapper, filterComponent, queryCache, versionRegistry, historyWriter);
+        this.nearCache = nearCache;
+        this.configMapper = mapper;
+        this.cipher = cipher;
+        this.promotionChunkSize = promotionChunkSize;
     }
 
     @Transactional(readOnly = true)
     public List<OBConfigDTO> getAll() {
         log.debug("Fetching all configuration properties");
-        return super.findAll();
+        OBConfigDTO[] configs = nearCache.get(ConfigNearCache.ALL_KEY, OBConfigDTO[].class,
+                () -> super.findAll().toArray(OBConfigDTO[]::new));
+        return maskAll(List.of(configs));
     }
 
     @Transactional(readOnly = true)
     public OBPageDTO<OBConfigDTO> getAll(OBBaseRequestDTO<OBConfigFilterDTO> request) {
 
         log.debug("Fetching all configuration properties");
-        return super.findAll(request.getReqData());
+        return mask(super.findAll(request.getReqData()));
     }
 
     @Transactional(readOnly = true)
     public List<OBConfigDTO> findListByCriteria(OBConfigFilterDTO filter) {
         log.debug("Finding configuration property by criteria as list");
-        return super.findListByCriteria(filter);
+        return maskAll(super.findListByCriteria(filter));
     }
 
     @Transactional(readOnly = true)
     public OBPageDTO<OBConfigDTO> findPageByCriteria(OBConfigFilterDTO filter) {
         log.debug("Finding configuration property by criteria as page");
-        return super.findPageByCriteria(filter);
+        return mask(super.findPageByCriteria(filter));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<OBConfigDTO> findByCriteria(OBConfigFilterDTO filter) {
+        return super.findByCriteria(filter).map(this::mask);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<OBConfigDTO> findByID(Long id) {
+        return super.findByID(id).map(this::mask);
+    }
+
+    @Transactional(readOnly = true)
+    public OBChangeSetDTO<OBConfigDTO> getChangedSince(LocalDateTime since) {
+        log.debug("Fetching configuration properties changed since {}", since);
+        OBChangeSetDTO<OBConfigDTO> changes = super.findChangedSince(since);
+        changes.setDataList(maskAll(changes.getDataList()));
+        return changes;
+    }
+
+    /**
+     * Finds a configuration property by its key through the near-cache. Misses are loaded from
+     * the database rather than the second-level cache, whose copy may predate another pod's
+     * write, because the near-cache shares what it loads with every pod.
+     */
+    @Transactional(readOnly = true)
+    public Optional<OBConfigDTO> findByPropKey(String propKey) {
+        log.debug("Finding configuration property by key: {}", propKey);
+        return Optional.ofNullable(nearCache.get(ConfigNearCache.propKey(propKey), OBConfigDTO.class,
+                () -> repository.findByNaturalIdFromDatabase(propKey).map(mapper::toDto).orElse(null)))
+                .map(this::mask);
+    }
+
+    @Override
+    @Transactional
+    public OBConfigDTO add(OBConfigDTO dto) {
+        if (dto != null) {
+            encryptValues(dto, Boolean.TRUE.equals(dto.getIsSensitive()));
+        }
+        OBConfigDTO result = super.add(dto);
+        nearCache.invalidateAfterCommit(ConfigNearCache.keysOf(result.getPropKey()));
+        return mask(result);
+    }
+
+    @Override
+    @Transactional
+    public OBConfigDTO update(OBConfigDTO dto) {
+        // Read the current row first so a rename also evicts the old key. The update writes into
+        // this same managed instance, so the old key must be taken before it runs
+        CleanConfigEntity existing = dto != null && dto.getId() != null
+                ? repository.findById(dto.getId()).orElse(null)
+                : null;
+        String oldPropKey = existing != null ? existing.getPropKey() : null;
+        if (existing != null) {
+            boolean sensitive = dto.getIsSensitive() != null
+                    ? dto.getIsSensitive()
+                    : Boolean.TRUE.equals(existing.getIsSensitive());
+            encryptValues(dto, sensitive);
+            if (sensitive != Boolean.TRUE.equals(existing.getIsSensitive())) {
+                convertStoredValues(dto, existing, sensitive);
+            }
+        }
+        OBConfigDTO result = super.update(dto);
+        nearCache.invalidateAfterCommit(ConfigNearCache.keysOf(oldPropKey, result.getPropKey()));
+        return mask(result);
+    }
+
+    /**
+     * Copies the source environment value to the target environment for every matching property,
+     * as one set-based UPDATE per chunk of ids, all in one transaction. Candidate rows are locked
+     * while the chunk is copied, so the reported keys are exactly the ones changed. Caches are
+     * invalidated once for the whole promotion.
+     *
+     * @throws IllegalArgumentException if an environment is unknown or source equals target
+     */
+    @Transactional
+    public OBConfigPromotionResultDTO promote(OBConfigPromotionRequestDTO request) {
+        ConfigEnvironment source = ConfigEnvironment.from(request.getSourceEnvironment());
+        ConfigEnvironment target = ConfigEnvironment.from(request.getTargetEnvironment());
+        if (source == target) {
+            throw new IllegalArgumentException("Source and target environment must differ");
+        }
+        boolean dryRun = Boolean.TRUE.equals(request.getDryRun());
+
+        List<String> changedKeys = new ArrayList<>();
+        List<Long> changedIds = new ArrayList<>();
+        int count = 0;
+        long afterId = 0L;
+        while (true) {
+            List<PromotionCandidate> chunk = repository.findPromotionCandidates(source, target,
+                    request.getCategory(), request.getKeyPrefix(), request.getPropKeys(),
+                    afterId, promotionChunkSize, !dryRun);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            afterId = chunk.get(chunk.size() - 1).id();
+
+            List<Long> ids = chunk.stream().map(PromotionCandidate::id).toList();
+            chunk.forEach(candidate -> changedKeys.add(candidate.propKey()));
+            changedIds.addAll(ids);
+            count += dryRun ? chunk.size() : repository.copyValues(source, target, ids);
+
+            if (chunk.size() < promotionChunkSize) {
+                break;
+            }
+        }
+
+        if (!dryRun && count > 0) {
+            recordHistory(changedIds);
+            invalidateQueryCache();
+            nearCache.invalidateAfterCommit(ConfigNearCache.keysOf(changedKeys.toArray(String[]::new)));
+        }
+
+        log.info("{} {} to {}: {} properties", dryRun ? "Dry-run promotion of" : "Promoted", source, target, count);
+        return OBConfigPromotionResultDTO.builder()
+                .sourceEnvironment(source.name())
+                .targetEnvironment(target.name())
+                .dryRun(dryRun)
+                .count(count)
+                .changedKeys(changedKeys)
+                .build();
+    }
+
+    /**
+     * Encrypts plain-text values of a sensitive property in place. A {@link ConfigValueCipher#MASK}
+     * sent back from a read is cleared so the update keeps the stored value.
+     */
+    private void encryptValues(OBConfigDTO dto, boolean sensitive) {
+        dto.setDevValue(encryptValue(dto.getDevValue(), sensitive));
+        dto.setSitValue(encryptValue(dto.getSitValue(), sensitive));
+        dto.setUatValue(encryptValue(dto.getUatValue(), sensitive));
+        dto.setProdValue(encryptValue(dto.getProdValue(), sensitive));
+        dto.setDrValue(encryptValue(dto.getDrValue(), sensitive));
+    }
+
+    /**
+     * Brings every value to the storage form of the new sensitivity when the flag flips: values
+     * not sent in the update are taken from the stored row and encrypted, or decrypted, with the
+     * ones that were sent, so no plaintext secret and no unreadable ciphertext stays behind.
+     */
+    private void convertStoredValues(OBConfigDTO dto, CleanConfigEntity existing, boolean sensitive) {
+        dto.setDevValue(convertStoredValue(dto.getDevValue(), existing.getDevValue(), sensitive));
+        dto.setSitValue(convertStoredValue(dto.getSitValue(), existing.getSitValue(), sensitive));
+        dto.setUatValue(convertStoredValue(dto.getUatValue(), existing.getUatValue(), sensitive));
+        dto.setProdValue(convertStoredValue(dto.getProdValue(), existing.getProdValue(), sensitive));
+        dto.setDrValue(convertStoredValue(dto.getDrValue(), existing.getDrValue(), sensitive));
+    }
+
+    private String convertStoredValue(String sent, String stored, boolean sensitive) {
+        String value = sent != null ? sent : stored;
+        if (!sensitive) {
+            return cipher.decrypt(value);
+        }
+        return cipher.isEnabled() ? cipher.encrypt(value) : value;
+    }
+
+    private String encryptValue(String value, boolean sensitive) {
+        if (ConfigValueCipher.MASK.equals(value)) {
+            return null;
+        }
+        return sensitive && cipher.isEnabled() ? cipher.encrypt(value) : value;
+    }
+
+    private OBConfigDTO mask(OBConfigDTO dto) {
+        if (dto == null) {
+            return null;
+        }
+
+        boolean sensitive = Boolean.TRUE.equals(dto.getIsSensitive());
+        String devValue = ConfigValueCipher.mask(dto.getDevValue(), sensitive);
+        String sitValue = ConfigValueCipher.mask(dto.getSitValue(), sensitive);
+        String uatValue = ConfigValueCipher.mask(dto.getUatValue(), sensitive);
+        String prodValue = ConfigValueCipher.mask(dto.getProdValue(), sensitive);
+        String drValue = ConfigValueCipher.mask(dto.getDrValue(), sensitive);
+        if (Objects.equals(devValue, dto.getDevValue()) && Objects.equals(sitValue, dto.getSitValue())
+                && Objects.equals(uatValue, dto.getUatValue()) && Objects.equals(prodValue, dto.getProdValue())
+                && Objects.equals(drValue, dto.getDrValue())) {
+            return dto;
+        }
+
+        OBConfigDTO masked = configMapper.copy(dto);
+        masked.setDevValue(devValue);
+        masked.setSitValue(sitValue);
+        masked.setUatValue(uatValue);
+        masked.setProdValue(prodValue);
+        masked.setDrValue(drValue);
+        return masked;
+    }
+
+    private List<OBConfigDTO> maskAll(List<OBConfigDTO> configs) {
+        return configs.stream().map(this::mask).toList();
+    }
+
+    private OBPageDTO<OBConfigDTO> mask(OBPageDTO<OBConfigDTO> page) {
+        return OBPageDTO.<OBConfigDTO>builder()
+                .totalRecords(page.getTotalRecords())
+                .totalPages(page.getTotalPages())
+                .currentPage(page.getCurrentPage())
+                .pageSize(page.getPageSize())
+                .dataList(maskAll(page.getDataList()))
+                .build();
     }
 }
@@ -0,0 +1,279 @@
+package com.clean.backoffice.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.clean.backoffice.dto.OBConfigBatchRequestDTO;
+import com.clean.backoffice.dto.OBConfigBatchResultDTO;
+import com.clean.backoffice.dto.OBConfigDTO;
+import com.clean.backoffice.dto.OBConfigFilterDTO;
+import com.clean.common.base.dto.OBBaseRequestDTO;
+import com.clean.common.base.dto.OBBaseResponseDTO;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Runs an ordered list of config operations in one call.
+ * <p>
+ * Atomic batches run every operation in order inside one transaction; the first failure rolls
+ * the transaction back and the remaining operations are not run. A read that finds nothing
+ * (404) does not count as a failure. Non-atomic batches commit each write on its own, and run
+ * every stretch of consecutive read-only operations in parallel on a small bounded pool, each
+ * in its own read-only transaction.
+ * </p>
+ */
+@Service
+@Slf4j
+public class ConfigBatchService implements DisposableBean {
+
+    private static final Set<String> READ_MODES = Set.of(
+            "findByCriteria", "findListByCriteria", "findPageByCriteria", "findByPropKey");
+    private static final Set<String> WRITE_MODES = Set.of("add", "update");
+
+    private final CleanConfigService cleanConfigService;
+    private final JsonMapper jsonMapper;
+    private final Validator validator;
+    private final TransactionTemplate transaction;
+    private final ThreadPoolExecutor readExecutor;
+    private final int maxOperations;
+
+    public ConfigBatchService(
+            CleanConfigService cleanConfigService,
+            JsonMapper jsonMapper,
+            Validator validator,
+            PlatformTransactionManager transactionManager,
+            @Value("${clean.config.batch.max-operations:100}") int maxOperations,
+            @Value("${clean.config.batch.read-threads:4}") int readThreads) {
+
+        this.cleanConfigService = cleanConfigService;
+        this.jsonMapper = jsonMapper;
+        this.validator = validator;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.maxOperations = maxOperations;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        // Overflow runs on the request thread, so parallelism degrades instead of failing
+        this.readExecutor = new ThreadPoolExecutor(readThreads, readThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(readThreads * 4), runnable -> {
+                    Thread thread = new Thread(runnable, "config-batch-read-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.readExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Runs the operations and returns one response per operation, in request order.
+     *
+     * @throws IllegalArgumentException if there are no operations or more than the configured maximum
+     */
+    public OBConfigBatchResultDTO execute(OBConfigBatchRequestDTO request) {
+        List<OBBaseRequestDTO<JsonNode>> operations = request.getOperations();
+        if (operations == null || operations.isEmpty()) {
+            throw new IllegalArgumentException("operations must not be empty");
+        }
+        if (operations.size() > maxOperations) {
+            throw new IllegalArgumentException("A batch holds at most " + maxOperations + " operations");
+        }
+
+        boolean atomic = !Boolean.FALSE.equals(request.getAtomic());
+        OBConfigBatchResultDTO result = atomic ? executeAtomic(operations) : executeIndependent(operations);
+        result.setAtomic(atomic);
+        for (OBBaseResponseDTO<Object> response : result.getResults()) {
+            if (Boolean.TRUE.equals(response.getSuccess())) {
+                result.setSucceeded(result.getSucceeded() + 1);
+            } else {
+                result.setFailed(result.getFailed() + 1);
+            }
+        }
+
+        log.info("Batch of {} operations completed (atomic={}, succeeded={}, failed={})",
+                operations.size(), atomic, result.getSucceeded(), result.getFailed());
+        return result;
+    }
+
+    @Override
+    public void destroy() {
+        readExecutor.shutdownNow();
+    }
+
+    private OBConfigBatchResultDTO executeAtomic(List<OBBaseRequestDTO<JsonNode>> operations) {
+        List<OBBaseResponseDTO<Object>> results = new ArrayList<>(operations.size());
+        Boolean rolledBack = transaction.execute(status -> {
+            for (int i = 0; i < operations.size(); i++) {
+                OBBaseResponseDTO<Object> response = run(operations.get(i));
+                results.add(response);
+                // A read finding nothing is an answer, not a failure of the batch
+                if (!Boolean.TRUE.equals(response.getSuccess()) && !"404".equals(response.getStatusCode())) {
+                    status.setRollbackOnly();
+                    return true;
+                }
+            }
+            return false;
+        });
+
+        if (Boolean.TRUE.equals(rolledBack)) {
+            int failedIndex = results.size() - 1;
+            String reason = "Rolled back: operation " + failedIndex + " failed";
+            for (int i = 0; i < failedIndex; i++) {
+                results.set(i, failure(operations.get(i), "424", "Failed Dependency", reason));
+            }
+            for (int i = failedIndex + 1; i < operations.size(); i++) {
+                results.add(failure(operations.get(i), "424", "Failed Dependency",
+                        "Not run: operation " + failedIndex + " failed"));
+            }
+        }
+
+        return OBConfigBatchResultDTO.builder()
+                .rolledBack(Boolean.TRUE.equals(rolledBack))
+                .results(results)
+                .build();
+    }
+
+    private OBConfigBatchResultDTO executeIndependent(List<OBBaseRequestDTO<JsonNode>> operations) {
+        List<OBBaseResponseDTO<Object>> results = new ArrayList<>(operations.size());
+        int i = 0;
+        while (i < operations.size()) {
+            if (!isRead(operations.get(i))) {
+                results.add(run(operations.get(i)));
+                i++;
+                continue;
+            }
+
+            int end = i;
+            while (end < operations.size() && isRead(operations.get(end))) {
+                end++;
+            }
+            List<CompletableFuture<OBBaseResponseDTO<Object>>> reads = new ArrayList<>(end - i);
+            for (OBBaseRequestDTO<JsonNode> operation : operations.subList(i, end)) {
+                reads.add(CompletableFuture.supplyAsync(() -> run(operation), readExecutor));
+            }
+            for (CompletableFuture<OBBaseResponseDTO<Object>> read : reads) {
+                results.add(read.join());
+            }
+            i = end;
+        }
+
+        return OBConfigBatchResultDTO.builder()
+                .rolledBack(false)
+                .results(results)
+                .build();
+    }
+
+    private static boolean isRead(OBBaseRequestDTO<JsonNode> operation) {
+        return READ_MODES.contains(operation.getMode());
+    }
+
+    /**
+     * Runs one operation, turning every failure into a failed response.
+     */
+    private OBBaseResponseDTO<Object> run(OBBaseRequestDTO<JsonNode> operation) {
+        String mode = operation.getMode();
+        try {
+            if (!READ_MODES.contains(mode) && !WRITE_MODES.contains(mode)) {
+                throw new IllegalArgumentException("Unknown batch operation: " + mode);
+            }
+
+            Object data = switch (mode) {
+                case "findByCriteria" -> cleanConfigService.findByCriteria(payload(operation, OBConfigFilterDTO.class))
+                        .orElse(null);
+                case "findListByCriteria" -> cleanConfigService.findListByCriteria(
+                        payload(operation, OBConfigFilterDTO.class));
+                case "findPageByCriteria" -> cleanConfigService.findPageByCriteria(
+                        payload(operation, OBConfigFilterDTO.class));
+                case "findByPropKey" -> cleanConfigService.findByPropKey(propKey(operation)).orElse(null);
+                case "add" -> cleanConfigService.add(payload(operation, OBConfigDTO.class));
+                default -> cleanConfigService.update(payload(operation, OBConfigDTO.class));
+            };
+
+            if (data == null) {
+                return failure(operation, "404", "Not Found", "No configuration found");
+            }
+            return OBBaseResponseDTO.builder()
+                    .clientTraceNo(operation.getClientTraceNo())
+                    .success(true)
+                    .statusCode("200")
+                    .statusDescription("OK")
+                    .message(mode + " succeeded")
+                    .reqData(data)
+                    .build();
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid batch operation {}: {}", mode, e.getMessage());
+            return failure(operation, "400", "Bad Request", e.getMessage());
+
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Batch operation {} lost an update race: {}", mode, e.getMessage());
+            return failure(operation, "409", "Conflict", "Configuration was changed concurrently, read it again");
+
+        } catch (Exception e) {
+            log.error("Batch operation {} failed", mode, e);
+            return failure(operation, "500", "Internal Server Error", mode + " failed: " + e.getMessage());
+        }
+    }
+
+    private <T> T payload(OBBaseRequestDTO<JsonNode> operation, Class<T> type) {
+        if (operation.getReqData() == null || operation.getReqData().isNull()) {
+            throw new IllegalArgumentException("reqData is required for " + operation.getMode());
+        }
+
+        T payload;
+        try {
+            payload = jsonMapper.treeToValue(operation.getReqData(), type);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid reqData for " + operation.getMode() + ": " + e.getMessage(), e);
+        }
+
+        Set<ConstraintViolation<T>> violations = validator.validate(payload);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        return payload;
+    }
+
+    private static String propKey(OBBaseRequestDTO<JsonNode> operation) {
+        JsonNode reqData = operation.getReqData();
+        String propKey = Optional.ofNullable(reqData)
+                .map(node -> node.isString() ? node : node.get("propKey"))
+                .filter(JsonNode::isString)
+                .map(JsonNode::asString)
+                .orElse(null);
+        if (propKey == null || propKey.isBlank()) {
+            throw new IllegalArgumentException("reqData must be a propKey string or an object with propKey");
+        }
+        return propKey;
+    }
+
+    private static OBBaseResponseDTO<Object> failure(OBBaseRequestDTO<JsonNode> operation, String statusCode,
+            String description, String message) {
+        return OBBaseResponseDTO.builder()
+                .clientTraceNo(operation.getClientTraceNo())
+                .success(false)
+                .statusCode(statusCode)
+                .statusDescription(description)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,191 @@
+package com.clean.backoffice.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.clean.backoffice.cache.ConfigSnapshot;
+import com.clean.backoffice.cache.ConfigSnapshotChangedEvent;
+import com.clean.backoffice.cache.ConfigSnapshotEntry;
+import com.clean.backoffice.cache.ConfigSnapshotHolder;
+import com.clean.backoffice.constant.ConfigEnvironment;
+import com.clean.backoffice.crypto.ConfigValueCipher;
+import com.clean.backoffice.dto.OBResolvedConfigListDTO;
+import com.clean.common.base.dto.OBBaseResponseDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Serves the resolved values of a whole category as ready-to-write response bytes.
+ * <p>
+ * A bundle is the complete {@link OBBaseResponseDTO} envelope serialized once per
+ * (environment, category, snapshot version), together with its gzip encoding, so a repeated
+ * request costs a map lookup and a byte copy. Bundles of older snapshots are dropped when a new
+ * snapshot is announced. Each bundle carries an ETag hashed from its own bytes, so the tag always
+ * matches the body it is sent with.
+ * </p>
+ * <p>
+ * Categories holding encrypted values are built per request and never cached, so decrypted
+ * secrets do not outlive the cipher's own short-lived plaintext cache. Which categories those
+ * are is worked out once per snapshot.
+ * </p>
+ */
+@Service
+@Slf4j
+public class ConfigBundleService {
+
+    private final ConfigSnapshotHolder snapshotHolder;
+    private final ConfigResolutionService configResolutionService;
+    private final JsonMapper jsonMapper;
+    private final int minGzipBytes;
+    private final Cache<BundleKey, ConfigBundle> bundles;
+    private volatile EncryptedCategories encryptedCategories = new EncryptedCategories(-1, Map.of());
+
+    public ConfigBundleService(
+            ConfigSnapshotHolder snapshotHolder,
+            ConfigResolutionService configResolutionService,
+            JsonMapper jsonMapper,
+            @Value("${clean.config.bundle.max-entries:256}") long maxEntries,
+            @Value("${clean.config.bundle.min-gzip-bytes:512}") int minGzipBytes) {
+
+        this.snapshotHolder = snapshotHolder;
+        this.configResolutionService = configResolutionService;
+        this.jsonMapper = jsonMapper;
+        this.minGzipBytes = minGzipBytes;
+        this.bundles = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    /**
+     * Returns the bundle of the category in the current snapshot.
+     */
+    public ConfigBundle bundle(ConfigEnvironment environment, String category) {
+        if (category == null || category.isBlank()) {
+            throw new IllegalArgumentException("category is required");
+        }
+        ConfigSnapshot snapshot = snapshotHolder.current();
+        String trimmed = category.trim();
+
+        if (containsEncrypted(snapshot, environment, trimmed)) {
+            return build(snapshot, environment, trimmed);
+        }
+        return bundles.get(new BundleKey(environment, trimmed, snapshot.getVersion()),
+                key -> build(snapshot, environment, trimmed));
+    }
+
+    @EventListener
+    public void onSnapshotChanged(ConfigSnapshotChangedEvent event) {
+        long version = event.snapshot().getVersion();
+        bundles.asMap().keySet().removeIf(key -> key.snapshotVersion() < version);
+        encryptedCategories(event.snapshot());
+    }
+
+    private ConfigBundle build(ConfigSnapshot snapshot, ConfigEnvironment environment, String category) {
+        OBResolvedConfigListDTO resolved = configResolutionService.resolveCategory(snapshot, environment, category);
+
+        OBBaseResponseDTO<OBResolvedConfigListDTO> response = OBBaseResponseDTO.<OBResolvedConfigListDTO>builder()
+                .success(true)
+                .statusCode("200")
+                .statusDescription("OK")
+                .message(String.format("Resolved %d configuration properties of category %s",
+                        resolved.getValues().size(), category))
+                .reqData(resolved)
+                .build();
+
+        byte[] json = jsonMapper.writeValueAsBytes(response);
+        byte[] gzip = json.length >= minGzipBytes ? gzip(json) : null;
+        log.debug("Built bundle {}/{} for snapshot v{}: {} bytes, {} gzipped", environment, category,
+                snapshot.getVersion(), json.length, gzip != null ? gzip.length : 0);
+        return new ConfigBundle(json, gzip != null && gzip.length < json.length ? gzip : null, etag(json));
+    }
+
+    private boolean containsEncrypted(ConfigSnapshot snapshot, ConfigEnvironment environment, String category) {
+        return encryptedCategories(snapshot).contains(environment, category);
+    }
+
+    private EncryptedCategories encryptedCategories(ConfigSnapshot snapshot) {
+        EncryptedCategories current = encryptedCategories;
+        if (current.snapshotVersion() == snapshot.getVersion()) {
+            return current;
+        }
+        EncryptedCategories scanned = EncryptedCategories.of(snapshot);
+        // A request still holding an older snapshot must not replace the newer set
+        if (scanned.snapshotVersion() > current.snapshotVersion()) {
+            encryptedCategories = scanned;
+        }
+        return scanned;
+    }
+
+    private static String etag(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            // Weak: the same tag is sent with the gzip and identity encodings
+            return "W/\"" + HexFormat.of().formatHex(digest, 0, 12) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private record BundleKey(ConfigEnvironment environment, String category, long snapshotVersion) {
+    }
+
+    /**
+     * Categories of one snapshot holding at least one encrypted value, per environment.
+     */
+    private record EncryptedCategories(long snapshotVersion, Map<ConfigEnvironment, Set<String>> byEnvironment) {
+
+        static EncryptedCategories of(ConfigSnapshot snapshot) {
+            Map<ConfigEnvironment, Set<String>> byEnvironment = new EnumMap<>(ConfigEnvironment.class);
+            for (ConfigEnvironment environment : ConfigEnvironment.values()) {
+                Set<String> categories = new HashSet<>();
+                for (ConfigSnapshotEntry entry : snapshot.entries()) {
+                    if (entry.category() != null && ConfigValueCipher.isEncrypted(entry.rawValue(environment))) {
+                        categories.add(entry.category());
+                    }
+                }
+                byEnvironment.put(environment, Set.copyOf(categories));
+            }
+            return new EncryptedCategories(snapshot.getVersion(), byEnvironment);
+        }
+
+        boolean contains(ConfigEnvironment environment, String category) {
+            return byEnvironment.getOrDefault(environment, Set.of()).contains(category);
+        }
+    }
+
+    /**
+     * Serialized response of a category.
+     *
+     * @param json the JSON bytes
+     * @param gzip the gzip encoding of {@code json}, or null when it would not be smaller
+     * @param etag weak ETag derived from {@code json}
+     */
+    public record ConfigBundle(byte[] json, byte[] gzip, String etag) {
+    }
+}
@@ -0,0 +1,292 @@
+package com.clean.backoffice.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.clean.backoffice.cache.ConfigSnapshot;
+import com.clean.backoffice.cache.ConfigSnapshotChangedEvent;
+import com.clean.backoffice.cache.ConfigSnapshotEntry;
+import com.clean.backoffice.cache.ConfigSnapshotHolder;
+import com.clean.backoffice.constant.ConfigEnvironment;
+import com.clean.backoffice.crypto.ConfigValueCipher;
+import com.clean.backoffice.dto.OBConfigChangeEventDTO;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pushes configuration changes to Server-Sent Events subscribers.
+ * <p>
+ * Subscriptions are async servlet requests, so an idle subscriber holds a connection but no
+ * thread. Changes come from {@link ConfigSnapshotChangedEvent}, i.e. after commit, and are
+ * fanned out by one dispatcher thread into a bounded queue per subscriber, which a virtual
+ * thread of that subscriber drains in order. A slow client therefore only delays itself, and
+ * one that falls {@code clean.config.stream.max-pending} events behind is dropped; it resumes
+ * from its last event id on reconnect. A subscriber resuming
+ * from a watermark first gets every snapshot entry updated at or after it, then live changes.
+ * The replay reaches back {@code clean.sync.watermark-overlap-ms} further, so rows of a
+ * transaction that committed after the client's last event but were stamped before it are
+ * not lost; entries the client already has may arrive again.
+ * Deletions that happened while a client was disconnected are not replayed.
+ * </p>
+ */
+@Slf4j
+@Service
+public class ConfigChangeStreamService {
+
+    static final String CHANGE_EVENT = "config-change";
+    static final String DELETE_EVENT = "config-delete";
+
+    private final ConfigSnapshotHolder snapshotHolder;
+    private final long timeoutMs;
+    private final int maxSubscribers;
+    private final long watermarkOverlapMs;
+    private final int maxPending;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(
+            runnable -> {
+                Thread thread = new Thread(runnable, "config-stream-dispatcher");
+                thread.setDaemon(true);
+                return thread;
+            });
+    // Blocking sends park a virtual thread of the one subscriber, never the dispatcher
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("config-stream-sender-", 0).factory());
+
+    public ConfigChangeStreamService(
+            ConfigSnapshotHolder snapshotHolder,
+            @Value("${clean.config.stream.timeout-ms:1800000}") long timeoutMs,
+            @Value("${clean.config.stream.max-subscribers:10000}") int maxSubscribers,
+            @Value("${clean.sync.watermark-overlap-ms:120000}") long watermarkOverlapMs,
+            @Value("${clean.config.stream.max-pending:1000}") int maxPending) {
+        this.snapshotHolder = snapshotHolder;
+        this.timeoutMs = timeoutMs;
+        this.maxSubscribers = maxSubscribers;
+        this.watermarkOverlapMs = watermarkOverlapMs;
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * Opens a subscription, replaying changes at or after {@code since} (everything when null).
+     *
+     * @throws IllegalStateException if the subscriber limit is reached
+     */
+    public SseEmitter subscribe(LocalDateTime since) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("Config stream subscriber limit of " + maxSubscribers + " reached");
+        }
+
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeoutMs), maxPending);
+        subscriber.emitter.onCompletion(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onTimeout(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onError(e -> subscribers.remove(subscriber));
+
+        // Register before reading the snapshot and replay under the subscriber lock, so a
+        // change swapped in meanwhile is delivered after the replay rather than lost or reordered
+        subscriber.lock.lock();
+        try {
+            subscribers.add(subscriber);
+            ConfigSnapshot snapshot = snapshotHolder.current();
+            LocalDateTime replayFrom = since != null ? since.minus(Duration.ofMillis(watermarkOverlapMs)) : null;
+            List<ConfigSnapshotEntry> replay = snapshot.entries().stream()
+                    .filter(entry -> replayFrom == null
+                            || (entry.updatedOn() != null && !entry.updatedOn().isBefore(replayFrom)))
+                    .sorted(Comparator.comparing(ConfigSnapshotEntry::updatedOn,
+                            Comparator.nullsFirst(Comparator.naturalOrder())))
+                    .toList();
+
+            for (ConfigSnapshotEntry entry : replay) {
+                if (!send(subscriber, changeEvent(entry, snapshot))) {
+                    break;
+                }
+            }
+            log.debug("Config stream subscriber added (since {}, {} replayed, {} active)",
+                    since, replay.size(), subscribers.size());
+        } finally {
+            subscriber.lock.unlock();
+        }
+        return subscriber.emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @EventListener
+    public void onSnapshotChanged(ConfigSnapshotChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        dispatcher.execute(() -> broadcast(event));
+    }
+
+    /**
+     * Keeps idle connections below the Jetty idle timeout and detects closed clients.
+     */
+    @Scheduled(fixedDelayString = "${clean.config.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        dispatcher.execute(() -> {
+            for (Subscriber subscriber : subscribers) {
+                // Pending events keep the connection busy already
+                if (subscriber.queue.isEmpty()) {
+                    enqueue(subscriber, SseEmitter.event().comment("heartbeat"));
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        senders.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+    }
+
+    private void broadcast(ConfigSnapshotChangedEvent event) {
+        ConfigSnapshot snapshot = event.snapshot();
+        for (Subscriber subscriber : subscribers) {
+            for (ConfigSnapshotEntry entry : event.changed()) {
+                if (!enqueue(subscriber, changeEvent(entry, snapshot))) {
+                    break;
+                }
+            }
+            for (String propKey : event.removedKeys()) {
+                if (!enqueue(subscriber, deleteEvent(propKey, snapshot))) {
+                    break;
+                }
+            }
+        }
+        log.debug("Broadcast {} changes and {} deletions to {} config stream subscribers",
+                event.changed().size(), event.removedKeys().size(), subscribers.size());
+    }
+
+    /**
+     * Queues an event for the subscriber's sender without blocking.
+     *
+     * @return false if the subscriber was dropped for falling too far behind
+     */
+    private boolean enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (!subscriber.queue.offer(event)) {
+            log.debug("Dropping config stream subscriber: {} events pending", maxPending);
+            drop(subscriber, new IllegalStateException("Subscriber too slow, " + maxPending + " events pending"));
+            return false;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+        return true;
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscriber.queue.poll()) != null) {
+                if (!send(subscriber, event)) {
+                    subscriber.queue.clear();
+                    break;
+                }
+            }
+            subscriber.draining.set(false);
+            // An event queued between the last poll and the reset would otherwise wait for the next one
+        } while (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private boolean send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        subscriber.lock.lock();
+        try {
+            subscriber.emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping config stream subscriber: {}", e.getMessage());
+            drop(subscriber, e);
+            return false;
+        } finally {
+            subscriber.lock.unlock();
+        }
+    }
+
+    private void drop(Subscriber subscriber, Exception cause) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.emitter.completeWithError(cause);
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder changeEvent(ConfigSnapshotEntry entry, ConfigSnapshot snapshot) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (ConfigEnvironment environment : ConfigEnvironment.values()) {
+            // Secrets never leave through the stream; clients resolve them explicitly
+            String value = ConfigValueCipher.mask(entry.rawValue(environment), entry.sensitive());
+            if (value != null) {
+                values.put(environment.name(), value);
+            }
+        }
+
+        LocalDateTime watermark = entry.updatedOn() != null ? entry.updatedOn() : snapshot.getWatermark();
+        OBConfigChangeEventDTO payload = OBConfigChangeEventDTO.builder()
+                .id(entry.id())
+                .propKey(entry.propKey())
+                .category(entry.category())
+                .dataType(entry.dataType())
+                .values(values)
+                .updatedOn(entry.updatedOn())
+                .watermark(watermark)
+                .snapshotVersion(snapshot.getVersion())
+                .build();
+
+        return withId(SseEmitter.event().name(CHANGE_EVENT).data(payload), watermark);
+    }
+
+    private static SseEmitter.SseEventBuilder deleteEvent(String propKey, ConfigSnapshot snapshot) {
+        OBConfigChangeEventDTO payload = OBConfigChangeEventDTO.builder()
+                .propKey(propKey)
+                .deleted(Boolean.TRUE)
+                .watermark(snapshot.getWatermark())
+                .snapshotVersion(snapshot.getVersion())
+                .build();
+
+        return withId(SseEmitter.event().name(DELETE_EVENT).data(payload), snapshot.getWatermark());
+    }
+
+    private static SseEmitter.SseEventBuilder withId(SseEmitter.SseEventBuilder event, LocalDateTime watermark) {
+        return watermark != null ? event.id(watermark.toString()) : event;
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Queue<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, int maxPending) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(maxPending);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.clean.backoffice.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.clean.backoffice.constant.ConfigEnvironment;
+import com.clean.backoffice.crypto.ConfigValueCipher;
+import com.clean.backoffice.dto.OBConfigDiffDTO;
+import com.clean.common.base.converter.CompressedTextConverter;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Compares TBL_CLEAN_CONFIG value columns between environments inside the database.
+ * <p>
+ * The filter {@code NOT (a <=> b)} (null-safe) runs in MariaDB, so only rows whose stored forms
+ * differ leave it, and they are streamed from the result set straight to the response as NDJSON
+ * without being collected first.
+ * </p>
+ * <p>
+ * Stored forms can differ while the values are equal: a value stored plain in one column and
+ * compressed in another, or encrypted twice with different random IVs. Each candidate row is
+ * therefore compared again on its inflated and decrypted values before it is written. Values
+ * that cannot be decrypted are compared as stored.
+ * </p>
+ */
+@Service
+@Slf4j
+public class ConfigEnvironmentDiffService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CompressedTextConverter converter;
+    private final ConfigValueCipher cipher;
+    private final JsonMapper jsonMapper;
+    private final int fetchSize;
+
+    public ConfigEnvironmentDiffService(
+            JdbcTemplate jdbcTemplate,
+            CompressedTextConverter converter,
+            ConfigValueCipher cipher,
+            JsonMapper jsonMapper,
+            @Value("${clean.config.diff.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.converter = converter;
+        this.cipher = cipher;
+        this.jsonMapper = jsonMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Parses and de-duplicates the environments to compare.
+     *
+     * @throws IllegalArgumentException if an environment is unknown or fewer than two are given
+     */
+    public List<ConfigEnvironment> parseEnvironments(List<String> names) {
+        Set<ConfigEnvironment> environments = new LinkedHashSet<>();
+        for (String name : names) {
+            environments.add(ConfigEnvironment.from(name));
+        }
+        if (environments.size() < 2) {
+            throw new IllegalArgumentException("At least two distinct environments are required");
+        }
+        return List.copyOf(environments);
+    }
+
+    /**
+     * Writes every differing property as one JSON line, ordered by key.
+     *
+     * @param environments the environments to compare, at least two
+     * @param category     optional exact category
+     * @param keyPrefix    optional property key prefix
+     * @param out          the response body
+     * @return number of differing properties written
+     */
+    public int streamDiff(List<ConfigEnvironment> environments, String category, String keyPrefix, OutputStream out) {
+        List<Object> args = new ArrayList<>();
+        String sql = buildSql(environments, category, keyPrefix, args);
+
+        int[] written = {0};
+        int[] candidates = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            // Positive fetch size makes the MariaDB driver stream instead of buffering the result
+            ps.setFetchSize(fetchSize);
+            for (int i = 0; i < args.size(); i++) {
+                ps.setObject(i + 1, args.get(i));
+            }
+            return ps;
+        }, rs -> {
+            candidates[0]++;
+            String propKey = rs.getString("prop_key");
+            boolean sensitive = rs.getBoolean("is_sensitive");
+            Map<String, String> values = new LinkedHashMap<>();
+            Set<String> plainValues = new HashSet<>();
+            for (ConfigEnvironment environment : environments) {
+                String inflated = converter.convertToEntityAttribute(rs.getString(environment.getColumnName()));
+                values.put(environment.name(), ConfigValueCipher.mask(inflated, sensitive));
+                plainValues.add(plainOf(propKey, inflated));
+            }
+            // Stored forms differed but the values do not
+            if (plainValues.size() < 2) {
+                return;
+            }
+
+            OBConfigDiffDTO diff = OBConfigDiffDTO.builder()
+                    .propKey(propKey)
+                    .category(rs.getString("category"))
+                    .dataType(rs.getString("data_type"))
+                    .sensitive(sensitive)
+                    .values(values)
+                    .build();
+            try {
+                out.write(jsonMapper.writeValueAsBytes(diff));
+                out.write('\n');
+                if (++written[0] % 100 == 0) {
+                    out.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.debug("Config diff of {} (category {}, prefix {}) streamed {} of {} candidate keys", environments,
+                category, keyPrefix, written[0], candidates[0]);
+        return written[0];
+    }
+
+    /**
+     * Returns the decrypted value, or the value as stored when it cannot be decrypted here.
+     */
+    private String plainOf(String propKey, String inflated) {
+        if (!ConfigValueCipher.isEncrypted(inflated)) {
+            return inflated;
+        }
+        try {
+            return cipher.decrypt(inflated);
+        } catch (IllegalStateException e) {
+            log.debug("Comparing '{}' by ciphertext: {}", propKey, e.getMessage());
+            return inflated;
+        }
+    }
+
+    private static String buildSql(List<ConfigEnvironment> environments, String category, String keyPrefix,
+            List<Object> args) {
+        // Column names are enum constants, never user input
+        StringBuilder sql = new StringBuilder("SELECT prop_key, category, data_type, is_sensitive");
+        for (ConfigEnvironment environment : environments) {
+            sql.append(", ").append(environment.getColumnName());
+        }
+        sql.append(" FROM TBL_CLEAN_CONFIG WHERE (");
+
+        String first = environments.get(0).getColumnName();
+        for (int i = 1; i < environments.size(); i++) {
+            if (i > 1) {
+                sql.append(" OR ");
+            }
+            sql.append("NOT (").append(first).append(" <=> ").append(environments.get(i).getColumnName()).append(')');
+        }
+        sql.append(')');
+
+        if (category != null && !category.isBlank()) {
+            sql.append(" AND category = ?");
+            args.add(category.trim());
+        }
+        if (keyPrefix != null && !keyPrefix.isBlank()) {
+            sql.append(" AND prop_key LIKE ? ESCAPE '!'");
+            args.add(keyPrefix.trim().replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%");
+        }
+        return sql.append(" ORDER BY prop_key").toString();
+    }
+}
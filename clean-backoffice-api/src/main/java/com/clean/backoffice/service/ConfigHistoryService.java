@@ -0,0 +1,103 @@
+package com.clean.backoffice.service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.clean.backoffice.crypto.ConfigValueCipher;
+import com.clean.backoffice.dto.OBConfigDTO;
+import com.clean.common.base.converter.CompressedTextConverter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Point-in-time reads of TBL_CLEAN_CONFIG_HISTORY.
+ * <p>
+ * The state as of T is, per row id, the history row with the greatest {@code valid_from <= T}.
+ * Versions are grouped by id rather than by key because {@code propKey} can be renamed; a
+ * renamed property appears once, under the key it had at T. The whole-table query ranks rows
+ * per id with a window function over {@code idx_id_valid_from}, so it is one ordered pass over
+ * the index instead of a correlated lookup per property. Returned values are inflated and sensitive values masked, as in
+ * {@link CleanConfigService}; {@code updatedOn} is the time the version became current.
+ * </p>
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ConfigHistoryService {
+
+    private static final String COLUMNS = "id, prop_key, dev_value, sit_value, uat_value, prod_value, dr_value, "
+            + "description, category, data_type, is_sensitive, created_on, created_by, valid_from, updated_by";
+
+    private static final String AS_OF_SQL = "SELECT " + COLUMNS + " FROM ("
+            + "SELECT h.*, ROW_NUMBER() OVER (PARTITION BY id ORDER BY valid_from DESC, history_id DESC) AS rn "
+            + "FROM TBL_CLEAN_CONFIG_HISTORY h WHERE valid_from <= ?) v "
+            + "WHERE rn = 1 ORDER BY prop_key";
+
+    // Only rows that ever had the key are ranked; the key must still be theirs in the latest version at T
+    private static final String KEY_AS_OF_SQL = "SELECT " + COLUMNS + " FROM ("
+            + "SELECT h.*, ROW_NUMBER() OVER (PARTITION BY id ORDER BY valid_from DESC, history_id DESC) AS rn "
+            + "FROM TBL_CLEAN_CONFIG_HISTORY h WHERE valid_from <= ? AND id IN ("
+            + "SELECT id FROM TBL_CLEAN_CONFIG_HISTORY WHERE prop_key = ? AND valid_from <= ?)) v "
+            + "WHERE rn = 1 AND prop_key = ? LIMIT 1";
+
+    private static final String KEY_HISTORY_SQL = "SELECT " + COLUMNS + " FROM TBL_CLEAN_CONFIG_HISTORY "
+            + "WHERE prop_key = ? ORDER BY valid_from, history_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CompressedTextConverter converter;
+
+    /**
+     * Returns every property as it was at {@code at}. Properties created later are absent.
+     */
+    public List<OBConfigDTO> findAllAsOf(LocalDateTime at) {
+        List<OBConfigDTO> configs = jdbcTemplate.query(AS_OF_SQL, this::toDto, Timestamp.valueOf(at));
+        log.debug("Config as of {}: {} properties", at, configs.size());
+        return configs;
+    }
+
+    public Optional<OBConfigDTO> findAsOf(String propKey, LocalDateTime at) {
+        Timestamp asOf = Timestamp.valueOf(at);
+        return jdbcTemplate.query(KEY_AS_OF_SQL, this::toDto, asOf, propKey, asOf, propKey).stream().findFirst();
+    }
+
+    /**
+     * Returns every recorded version of the property, oldest first.
+     */
+    public List<OBConfigDTO> findHistory(String propKey) {
+        return jdbcTemplate.query(KEY_HISTORY_SQL, this::toDto, propKey);
+    }
+
+    private OBConfigDTO toDto(ResultSet rs, int rowNum) throws SQLException {
+        boolean sensitive = rs.getBoolean("is_sensitive");
+
+        OBConfigDTO dto = new OBConfigDTO();
+        dto.setId(rs.getLong("id"));
+        dto.setPropKey(rs.getString("prop_key"));
+        dto.setDevValue(value(rs, "dev_value", sensitive));
+        dto.setSitValue(value(rs, "sit_value", sensitive));
+        dto.setUatValue(value(rs, "uat_value", sensitive));
+        dto.setProdValue(value(rs, "prod_value", sensitive));
+        dto.setDrValue(value(rs, "dr_value", sensitive));
+        dto.setDescription(rs.getString("description"));
+        dto.setCategory(rs.getString("category"));
+        dto.setDataType(rs.getString("data_type"));
+        dto.setIsSensitive(sensitive);
+        dto.setCreatedOn(rs.getObject("created_on", LocalDateTime.class));
+        dto.setCreatedBy(rs.getString("created_by"));
+        dto.setUpdatedOn(rs.getObject("valid_from", LocalDateTime.class));
+        dto.setUpdatedBy(rs.getString("updated_by"));
+        return dto;
+    }
+
+    private String value(ResultSet rs, String column, boolean sensitive) throws SQLException {
+        return ConfigValueCipher.mask(converter.convertToEntityAttribute(rs.getString(column)), sensitive);
+    }
+}
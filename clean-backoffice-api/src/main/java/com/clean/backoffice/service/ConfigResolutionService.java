@@ -0,0 +1,110 @@
+package com.clean.backoffice.service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+
+import com.clean.backoffice.cache.ConfigPlaceholderResolver;
+import com.clean.backoffice.cache.ConfigSnapshot;
+import com.clean.backoffice.cache.ConfigSnapshotEntry;
+import com.clean.backoffice.cache.ConfigSnapshotHolder;
+import com.clean.backoffice.cache.ConfigValueDecoder;
+import com.clean.backoffice.constant.ConfigEnvironment;
+import com.clean.backoffice.crypto.ConfigValueCipher;
+import com.clean.backoffice.dto.OBResolvedConfigDTO;
+import com.clean.backoffice.dto.OBResolvedConfigListDTO;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resolves configuration values for an environment from the in-memory snapshot.
+ * <p>
+ * Never touches the database: every call reads one immutable {@link ConfigSnapshot}, so a
+ * multi-key lookup is consistent even while a refresh is swapping in a newer snapshot.
+ * </p>
+ * <p>
+ * Encrypted values stay encrypted in the snapshot. Only the requested environment of the
+ * requested key is decrypted, through the short-lived plaintext cache of {@link ConfigValueCipher}.
+ * </p>
+ * <p>
+ * {@code ${other.key}} placeholders are served pre-resolved by {@link ConfigPlaceholderResolver}.
+ * </p>
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ConfigResolutionService {
+
+    private final ConfigSnapshotHolder snapshotHolder;
+    private final ConfigValueCipher cipher;
+    private final ConfigValueDecoder valueDecoder;
+    private final ConfigPlaceholderResolver placeholderResolver;
+
+    public Optional<OBResolvedConfigDTO> resolve(ConfigEnvironment environment, String propKey) {
+        ConfigSnapshot snapshot = snapshotHolder.current();
+        return snapshot.find(propKey)
+                .map(entry -> toResolved(snapshot, entry, environment));
+    }
+
+    public OBResolvedConfigListDTO resolveAll(ConfigEnvironment environment, List<String> propKeys) {
+        ConfigSnapshot snapshot = snapshotHolder.current();
+
+        OBResolvedConfigListDTO result = OBResolvedConfigListDTO.builder()
+                .environment(environment.name())
+                .snapshotVersion(snapshot.getVersion())
+                .build();
+
+        for (String propKey : propKeys) {
+            snapshot.find(propKey).ifPresentOrElse(
+                    entry -> result.getValues().put(propKey, toResolved(snapshot, entry, environment)),
+                    () -> result.getMissingKeys().add(propKey));
+        }
+
+        log.debug("Resolved {} of {} keys for {} from snapshot v{}",
+                result.getValues().size(), propKeys.size(), environment, snapshot.getVersion());
+        return result;
+    }
+
+    /**
+     * Resolves every key of the category, in key order, against the given snapshot.
+     */
+    public OBResolvedConfigListDTO resolveCategory(ConfigSnapshot snapshot, ConfigEnvironment environment,
+            String category) {
+        OBResolvedConfigListDTO result = OBResolvedConfigListDTO.builder()
+                .environment(environment.name())
+                .snapshotVersion(snapshot.getVersion())
+                .build();
+
+        snapshot.entries().stream()
+                .filter(entry -> category.equals(entry.category()))
+                .sorted(Comparator.comparing(ConfigSnapshotEntry::propKey))
+                .forEach(entry -> result.getValues().put(entry.propKey(), toResolved(snapshot, entry, environment)));
+
+        log.debug("Resolved {} keys of category '{}' for {} from snapshot v{}",
+                result.getValues().size(), category, environment, snapshot.getVersion());
+        return result;
+    }
+
+    private OBResolvedConfigDTO toResolved(ConfigSnapshot snapshot, ConfigSnapshotEntry entry,
+            ConfigEnvironment environment) {
+        return OBResolvedConfigDTO.builder()
+                .propKey(entry.propKey())
+                .environment(environment.name())
+                .dataType(entry.dataType())
+                .category(entry.category())
+                .value(valueOf(snapshot, entry, environment))
+                .updatedOn(entry.updatedOn())
+                .build();
+    }
+
+    private Object valueOf(ConfigSnapshot snapshot, ConfigSnapshotEntry entry, ConfigEnvironment environment) {
+        String rawValue = entry.rawValue(environment);
+        if (!ConfigValueCipher.isEncrypted(rawValue)) {
+            return placeholderResolver.resolve(snapshot, entry, environment);
+        }
+        return valueDecoder.decode(entry.propKey(), cipher.decrypt(rawValue), entry.dataType());
+    }
+}
@@ -0,0 +1,127 @@
+package com.clean.backoffice.service;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.clean.common.base.converter.CompressedTextConverter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Backfills compression of TBL_CLEAN_CONFIG values written before compression was enabled.
+ * <p>
+ * Walks the table in id order, one batch per transaction, reading only rows with at least one
+ * value long enough to compress. Each row is rewritten only if its values are still the ones
+ * read, so a concurrent edit is never overwritten; such rows are picked up by a later run.
+ * {@code updated_on} is kept as is, because the stored form changed but the value did not.
+ * </p>
+ */
+@Service
+@Slf4j
+public class ConfigValueCompressionService {
+
+    private static final String SELECT_BATCH_SQL = """
+            SELECT id, dev_value, sit_value, uat_value, prod_value, dr_value
+            FROM TBL_CLEAN_CONFIG
+            WHERE id > ?
+              AND (CHAR_LENGTH(dev_value) >= ? OR CHAR_LENGTH(sit_value) >= ? OR CHAR_LENGTH(uat_value) >= ?
+                   OR CHAR_LENGTH(prod_value) >= ? OR CHAR_LENGTH(dr_value) >= ?)
+            ORDER BY id
+            LIMIT ?""";
+
+    private static final String UPDATE_SQL = """
+            UPDATE TBL_CLEAN_CONFIG
+            SET dev_value = ?, sit_value = ?, uat_value = ?, prod_value = ?, dr_value = ?, updated_on = updated_on
+            WHERE id = ?
+              AND dev_value <=> ? AND sit_value <=> ? AND uat_value <=> ? AND prod_value <=> ? AND dr_value <=> ?""";
+
+    private static final int VALUE_COLUMNS = 5;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CompressedTextConverter converter;
+
+    public ConfigValueCompressionService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            CompressedTextConverter converter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.converter = converter;
+    }
+
+    /**
+     * Compresses every eligible stored value.
+     *
+     * @param batchSize rows per batch and transaction
+     * @return number of rows rewritten
+     * @throws IllegalStateException if compression is disabled
+     */
+    public int compressExisting(int batchSize) {
+        if (!converter.isEnabled()) {
+            throw new IllegalStateException("Compression is disabled (clean.config.compression.enabled=false)");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+
+        int minLength = converter.getMinLength();
+        long lastId = 0L;
+        int rewritten = 0;
+
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(SELECT_BATCH_SQL, (rs, rowNum) -> {
+                Object[] row = new Object[VALUE_COLUMNS + 1];
+                row[0] = rs.getLong(1);
+                for (int i = 1; i <= VALUE_COLUMNS; i++) {
+                    row[i] = rs.getString(i + 1);
+                }
+                return row;
+            }, lastId, minLength, minLength, minLength, minLength, minLength, batchSize);
+
+            if (rows.isEmpty()) {
+                break;
+            }
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+
+            List<Object[]> updates = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                Object[] update = new Object[VALUE_COLUMNS * 2 + 1];
+                boolean changed = false;
+                for (int i = 0; i < VALUE_COLUMNS; i++) {
+                    String stored = (String) row[i + 1];
+                    String converted = converter.convertToDatabaseColumn(stored);
+                    changed |= converted != null && !converted.equals(stored);
+                    update[i] = converted;
+                    update[VALUE_COLUMNS + 1 + i] = stored;
+                }
+                update[VALUE_COLUMNS] = row[0];
+                if (changed) {
+                    updates.add(update);
+                }
+            }
+
+            if (!updates.isEmpty()) {
+                int[] counts = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(UPDATE_SQL, updates));
+                for (int count : counts) {
+                    // Rewritten batches (rewriteBatchedStatements) report no per-row count
+                    rewritten += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+                }
+            }
+            log.debug("Compression backfill: batch up to id {} rewrote {} of {} rows", lastId, updates.size(), rows.size());
+
+            if (rows.size() < batchSize) {
+                break;
+            }
+        }
+
+        log.info("Compression backfill finished: {} rows rewritten", rewritten);
+        return rewritten;
+    }
+}
@@ -0,0 +1,226 @@
+package com.clean.backoffice.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.clean.backoffice.crypto.ConfigValueCipher;
+import com.clean.backoffice.dao.CleanConfigRepository;
+import com.clean.backoffice.dto.OBConfigDTO;
+import com.clean.backoffice.entity.CleanConfigEntity;
+import com.clean.backoffice.mapper.CleanConfigMapperImpl;
+import com.clean.backoffice.service.CleanConfigService;
+import com.clean.common.base.cache.EntityVersionChangedEvent;
+import com.clean.common.base.cache.SecondLevelCacheEvictor;
+import com.clean.common.base.component.DynamicFilterComponent;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Two pods sharing one {@link InMemoryConfigSharedCache}, the stand-in for Redis.
+ */
+class ConfigNearCacheTest {
+
+    private static final String OLD_KEY = "app.timeout";
+    private static final String NEW_KEY = "app.timeout.ms";
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private InMemoryConfigSharedCache sharedCache;
+    private SecondLevelCacheEvictor evictorA;
+    private SecondLevelCacheEvictor evictorB;
+    private ConfigNearCache podA;
+    private ConfigNearCache podB;
+
+    @BeforeEach
+    void setUp() {
+        sharedCache = new InMemoryConfigSharedCache();
+        evictorA = mock(SecondLevelCacheEvictor.class);
+        evictorB = mock(SecondLevelCacheEvictor.class);
+        podA = new ConfigNearCache(sharedCache, jsonMapper, evictorA, true, 100, 60);
+        podB = new ConfigNearCache(sharedCache, jsonMapper, evictorB, true, 100, 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void missLoadsOnceAndOtherPodReadsThroughSharedTier() {
+        CountingLoader loaderA = new CountingLoader(config(1L, OLD_KEY, "30"));
+        assertEquals("30", podA.get(ConfigNearCache.propKey(OLD_KEY), OBConfigDTO.class, loaderA).getDevValue());
+        assertEquals("30", podA.get(ConfigNearCache.propKey(OLD_KEY), OBConfigDTO.class, loaderA).getDevValue());
+        assertEquals(1, loaderA.calls.get());
+        assertTrue(sharedCache.get(ConfigNearCache.propKey(OLD_KEY)).isPresent());
+
+        CountingLoader loaderB = new CountingLoader(config(1L, OLD_KEY, "stale"));
+        assertEquals("30", podB.get(ConfigNearCache.propKey(OLD_KEY), OBConfigDTO.class, loaderB).getDevValue());
+        assertEquals(0, loaderB.calls.get());
+        assertEquals(1, podB.stats().sharedHits());
+    }
+
+    @Test
+    void addEvictsListEverywhereOnlyAfterCommit() {
+        CleanConfigRepository repository = mock(CleanConfigRepository.class);
+        when(repository.save(any())).thenAnswer(invocation -> withId(invocation.getArgument(0), 2L));
+        CleanConfigService service = service(repository, podA);
+
+        warm(podA, ConfigNearCache.ALL_KEY);
+        warm(podB, ConfigNearCache.ALL_KEY);
+
+        TransactionSynchronizationManager.initSynchronization();
+        service.add(config(null, NEW_KEY, "45"));
+        assertTrue(sharedCache.get(ConfigNearCache.ALL_KEY).isPresent(), "evicted before commit");
+
+        commit();
+        assertFalse(sharedCache.get(ConfigNearCache.ALL_KEY).isPresent());
+        assertReloads(podA, ConfigNearCache.ALL_KEY);
+        assertReloads(podB, ConfigNearCache.ALL_KEY);
+    }
+
+    @Test
+    void renameEvictsOldAndNewKeyEverywhereAfterCommit() {
+        CleanConfigEntity existing = new CleanConfigEntity(OLD_KEY);
+        existing.setId(1L);
+        existing.setDevValue("30");
+        CleanConfigRepository repository = mock(CleanConfigRepository.class);
+        when(repository.findById(1L)).thenReturn(Optional.of(existing));
+        when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        CleanConfigService service = service(repository, podA);
+
+        for (String key : List.of(ConfigNearCache.propKey(OLD_KEY), ConfigNearCache.propKey(NEW_KEY),
+                ConfigNearCache.ALL_KEY)) {
+            warm(podA, key);
+            warm(podB, key);
+        }
+
+        TransactionSynchronizationManager.initSynchronization();
+        service.update(config(1L, NEW_KEY, "30000"));
+        assertTrue(sharedCache.get(ConfigNearCache.propKey(OLD_KEY)).isPresent(), "evicted before commit");
+
+        commit();
+        for (String key : List.of(ConfigNearCache.propKey(OLD_KEY), ConfigNearCache.propKey(NEW_KEY),
+                ConfigNearCache.ALL_KEY)) {
+            assertFalse(sharedCache.get(key).isPresent(), key + " left in the shared tier");
+            assertReloads(podA, key);
+            assertReloads(podB, key);
+        }
+    }
+
+    @Test
+    void loadOverlappingInvalidationIsNotCached() {
+        String key = ConfigNearCache.propKey(OLD_KEY);
+        OBConfigDTO loaded = podA.get(key, OBConfigDTO.class, () -> {
+            // A writer on another pod commits while this load is reading the old row
+            podB.invalidateAfterCommit(List.of(key));
+            return config(1L, OLD_KEY, "pre-commit");
+        });
+
+        assertEquals("pre-commit", loaded.getDevValue());
+        assertFalse(sharedCache.get(key).isPresent());
+        assertReloads(podA, key);
+    }
+
+    @Test
+    void otherPodDropsLocalCopyAndSecondLevelCacheOnMessage() {
+        String key = ConfigNearCache.propKey(OLD_KEY);
+        warm(podB, key);
+        sharedCache.evict(List.of(key));
+
+        podA.invalidateAfterCommit(List.of(key));
+
+        verify(evictorB).evict(CleanConfigEntity.class);
+        assertReloads(podB, key);
+        assertEquals(1, podB.stats().invalidationsReceived());
+    }
+
+    @Test
+    void versionChangeDropsEverythingLocal() {
+        String key = ConfigNearCache.propKey(OLD_KEY);
+        warm(podB, key);
+        sharedCache.evict(List.of(key));
+
+        podB.onEntityVersionChanged(new EntityVersionChangedEvent(CleanConfigEntity.class, 2));
+
+        verify(evictorB).evict(CleanConfigEntity.class);
+        assertReloads(podB, key);
+    }
+
+    private CleanConfigService service(CleanConfigRepository repository, ConfigNearCache nearCache) {
+        return new CleanConfigService(repository, new CleanConfigMapperImpl(), mock(DynamicFilterComponent.class),
+                null, null, null, nearCache, mock(ConfigValueCipher.class), 500);
+    }
+
+    private static void warm(ConfigNearCache cache, String key) {
+        if (ConfigNearCache.ALL_KEY.equals(key)) {
+            cache.get(key, OBConfigDTO[].class, () -> new OBConfigDTO[] { config(1L, OLD_KEY, "30") });
+        } else {
+            cache.get(key, OBConfigDTO.class, () -> config(1L, OLD_KEY, "30"));
+        }
+    }
+
+    /**
+     * Reads the key with a loader returning null, which is never cached, so one check does not
+     * warm the key for the next.
+     */
+    private static void assertReloads(ConfigNearCache cache, String key) {
+        AtomicInteger calls = new AtomicInteger();
+        cache.get(key, Object.class, () -> {
+            calls.incrementAndGet();
+            return null;
+        });
+        assertEquals(1, calls.get(), key + " was served from a cache");
+    }
+
+    private static void commit() {
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private static CleanConfigEntity withId(CleanConfigEntity entity, Long id) {
+        entity.setId(id);
+        return entity;
+    }
+
+    private static OBConfigDTO config(Long id, String propKey, String devValue) {
+        OBConfigDTO dto = new OBConfigDTO();
+        dto.setId(id);
+        dto.setPropKey(propKey);
+        dto.setDevValue(devValue);
+        return dto;
+    }
+
+    private static final class CountingLoader implements Supplier<OBConfigDTO> {
+
+        private final OBConfigDTO value;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private CountingLoader(OBConfigDTO value) {
+            this.value = value;
+        }
+
+        @Override
+        public OBConfigDTO get() {
+            calls.incrementAndGet();
+            return value;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.clean.common.base.cache;
+
+import java.util.Set;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Polls {@link CacheVersionTable} and, for every entity type another instance wrote to, evicts
+ * its second-level cache data and then bumps its local version, which invalidates its query
+ * results and fires {@link EntityVersionChangedEvent}. Evicting first means listeners reloading
+ * on the event read the other instance's write. Staleness across instances is bounded by
+ * {@code clean.cache.version-table.poll-interval-ms}. Needs scheduling to be enabled by the
+ * consuming application.
+ */
+@Slf4j
+@Component
+public class CacheVersionPoller {
+
+    private final CacheVersionTable versionTable;
+    private final EntityVersionRegistry versionRegistry;
+    private final SecondLevelCacheEvictor secondLevelCacheEvictor;
+
+    public CacheVersionPoller(CacheVersionTable versionTable, EntityVersionRegistry versionRegistry,
+            SecondLevelCacheEvictor secondLevelCacheEvictor) {
+        this.versionTable = versionTable;
+        this.versionRegistry = versionRegistry;
+        this.secondLevelCacheEvictor = secondLevelCacheEvictor;
+    }
+
+    @Scheduled(fixedDelayString = "${clean.cache.version-table.poll-interval-ms:2000}")
+    public void poll() {
+        if (!versionTable.isEnabled()) {
+            return;
+        }
+
+        try {
+            Set<String> changed = versionTable.pollChanged();
+            if (changed.isEmpty()) {
+                return;
+            }
+
+            for (Class<?> entityType : versionRegistry.registeredTypes()) {
+                if (changed.contains(versionTable.cacheName(entityType))) {
+                    log.debug("Version row of {} changed, invalidating local caches", entityType.getSimpleName());
+                    secondLevelCacheEvictor.evict(entityType);
+                    versionRegistry.bump(entityType);
+                    versionRegistry.recordSharedVersion(entityType, versionTable.lastSeen(entityType));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Cache version poll failed; local caches may be stale until the next poll: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.clean.common.base.cache;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.Table;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Access to TBL_CLEAN_CACHE_VERSION, the database row per table that lets instances without a
+ * shared cache detect each other's writes.
+ * <p>
+ * Writers increment the row inside their own transaction, so the new version becomes visible
+ * exactly when the data does. Readers poll every row in one query and compare with the last
+ * version they acted on. Disabled unless {@code clean.cache.version-table.enabled=true}, in
+ * which case every method is a no-op.
+ * </p>
+ */
+@Slf4j
+@Component
+public class CacheVersionTable {
+
+    private static final String INCREMENT_SQL =
+            "INSERT INTO TBL_CLEAN_CACHE_VERSION (cache_name, version) VALUES (?, 1) "
+                    + "ON DUPLICATE KEY UPDATE version = version + 1";
+    private static final String SELECT_ONE_SQL =
+            "SELECT version FROM TBL_CLEAN_CACHE_VERSION WHERE cache_name = ?";
+    private static final String SELECT_ALL_SQL =
+            "SELECT cache_name, version FROM TBL_CLEAN_CACHE_VERSION";
+
+    private final ObjectProvider<JdbcTemplate> jdbcTemplate;
+    private final boolean enabled;
+    private final Map<Class<?>, String> cacheNames = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastSeen = new ConcurrentHashMap<>();
+
+    public CacheVersionTable(
+            ObjectProvider<JdbcTemplate> jdbcTemplate,
+            @Value("${clean.cache.version-table.enabled:false}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        log.info("CacheVersionTable initialized: enabled={}", enabled);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Increments the version of the entity's table in the current transaction. The row stays
+     * locked until commit, so concurrent writers of the same table are serialized on it.
+     *
+     * @param entityType the entity class
+     * @return the new version, or 0 when disabled
+     */
+    public long increment(Class<?> entityType) {
+        if (!enabled) {
+            return 0L;
+        }
+
+        String cacheName = cacheName(entityType);
+        JdbcTemplate jdbc = jdbcTemplate.getObject();
+        jdbc.update(INCREMENT_SQL, cacheName);
+        Long version = jdbc.queryForObject(SELECT_ONE_SQL, Long.class, cacheName);
+        return version != null ? version : 0L;
+    }
+
+    /**
+     * Records a version this instance already acted on, typically its own committed write,
+     * so the next poll does not invalidate for it again.
+     */
+    public void acknowledge(Class<?> entityType, long version) {
+        if (enabled && version > 0) {
+            lastSeen.merge(cacheName(entityType), version, Math::max);
+        }
+    }
+
+    /**
+     * Returns the highest version of the entity's row this instance has polled or acknowledged,
+     * or 0 when none yet.
+     */
+    public long lastSeen(Class<?> entityType) {
+        return enabled ? lastSeen.getOrDefault(cacheName(entityType), 0L) : 0L;
+    }
+
+    /**
+     * Reads every version row and returns the names whose version moved past the last one
+     * acknowledged. Names never seen before count as changed.
+     *
+     * @return changed cache names, empty when disabled
+     */
+    public Set<String> pollChanged() {
+        if (!enabled) {
+            return Set.of();
+        }
+
+        Set<String> changed = new HashSet<>();
+        jdbcTemplate.getObject().query(SELECT_ALL_SQL, rs -> {
+            String cacheName = rs.getString(1);
+            long version = rs.getLong(2);
+            Long previous = lastSeen.put(cacheName, version);
+            if (previous == null || version > previous) {
+                changed.add(cacheName);
+            } else if (version < previous) {
+                // A concurrent acknowledge raced ahead of this read; keep the higher version
+                lastSeen.merge(cacheName, previous, Math::max);
+            }
+        });
+        return changed;
+    }
+
+    /**
+     * Returns the version row name of an entity: its {@code @Table} name, else its simple
+     * class name, upper-cased.
+     */
+    public String cacheName(Class<?> entityType) {
+        return cacheNames.computeIfAbsent(entityType, type -> {
+            Table table = type.getAnnotation(Table.class);
+            String name = table != null && !table.name().isBlank() ? table.name() : type.getSimpleName();
+            return name.toUpperCase(Locale.ROOT);
+        });
+    }
+}
@@ -0,0 +1,12 @@
+package com.clean.common.base.cache;
+
+/**
+ * Published by {@link EntityVersionRegistry} whenever the version of an entity type changes,
+ * i.e. after a committed write in this instance, or in another instance once
+ * {@link CacheVersionPoller} notices it. Listeners refresh derived state such as snapshots.
+ *
+ * @param entityType the entity class whose data changed
+ * @param version    the new version
+ */
+public record EntityVersionChangedEvent(Class<?> entityType, long version) {
+}
@@ -0,0 +1,143 @@
+package com.clean.common.base.cache;
+
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds a monotonically increasing version counter per entity type.
+ * Cached query results are keyed by the version that was current when they were loaded,
+ * so bumping the version makes every older entry unreachable without scanning the cache.
+ * Every bump is announced as an {@link EntityVersionChangedEvent}.
+ * <p>
+ * Versions are local to this instance. When {@link CacheVersionTable} is enabled, writes are
+ * also counted in the database so {@link CacheVersionPoller} can bump the other instances.
+ * </p>
+ * <p>
+ * {@link #versionTag} names the data an instance serves in a form comparable across instances
+ * when the shared version is known, e.g. for HTTP ETags.
+ * </p>
+ */
+@Slf4j
+@Component
+public class EntityVersionRegistry {
+
+    private final Map<Class<?>, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Long> sharedVersions = new ConcurrentHashMap<>();
+    private final String instanceId = Long.toHexString(new SecureRandom().nextLong());
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheVersionTable versionTable;
+
+    public EntityVersionRegistry(ApplicationEventPublisher eventPublisher, CacheVersionTable versionTable) {
+        this.eventPublisher = eventPublisher;
+        this.versionTable = versionTable;
+    }
+
+    /**
+     * Starts tracking the entity type at version 0, making it visible to {@link #registeredTypes()}.
+     *
+     * @param entityType the entity class
+     */
+    public void register(Class<?> entityType) {
+        counter(entityType);
+    }
+
+    public Set<Class<?>> registeredTypes() {
+        return Set.copyOf(versions.keySet());
+    }
+
+    /**
+     * Returns the current version for the given entity type (0 if never written).
+     *
+     * @param entityType the entity class
+     * @return current version
+     */
+    public long current(Class<?> entityType) {
+        AtomicLong version = versions.get(entityType);
+        return version != null ? version.get() : 0L;
+    }
+
+    /**
+     * Returns a tag that changes whenever the data of the entity type served by this instance
+     * may have changed. It is the shared database version once one has been applied here, so
+     * instances that applied the same writes return the same tag; otherwise it is the local
+     * version qualified by a per-instance id, which never matches another instance.
+     *
+     * @param entityType the entity class
+     * @return the version tag
+     */
+    public String versionTag(Class<?> entityType) {
+        Long shared = sharedVersions.get(entityType);
+        return shared != null ? "s" + shared : instanceId + "." + current(entityType);
+    }
+
+    /**
+     * Records the shared version whose writes the local caches now reflect. Must be called
+     * after the corresponding {@link #bump}, so a tag never runs ahead of the data.
+     *
+     * @param entityType    the entity class
+     * @param sharedVersion the shared version, ignored unless positive
+     */
+    public void recordSharedVersion(Class<?> entityType, long sharedVersion) {
+        if (sharedVersion > 0) {
+            sharedVersions.merge(entityType, sharedVersion, Math::max);
+        }
+    }
+
+    /**
+     * Increments the version for the given entity type immediately.
+     *
+     * @param entityType the entity class
+     * @return the new version
+     */
+    public long bump(Class<?> entityType) {
+        long next = counter(entityType).incrementAndGet();
+        log.debug("Bumped version of {} to {}", entityType.getSimpleName(), next);
+        eventPublisher.publishEvent(new EntityVersionChangedEvent(entityType, next));
+        return next;
+    }
+
+    /**
+     * Increments the version once the surrounding transaction commits, or immediately when
+     * no transaction synchronization is active. Bumping after commit prevents a concurrent
+     * reader from caching pre-commit data under the new version.
+     * <p>
+     * The shared version row, if enabled, is incremented right away so it commits or rolls
+     * back together with the write.
+     * </p>
+     *
+     * @param entityType the entity class
+     */
+    public void bumpAfterCommit(Class<?> entityType) {
+        long sharedVersion = versionTable.increment(entityType);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump(entityType);
+            versionTable.acknowledge(entityType, sharedVersion);
+            recordSharedVersion(entityType, sharedVersion);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump(entityType);
+                versionTable.acknowledge(entityType, sharedVersion);
+                recordSharedVersion(entityType, sharedVersion);
+            }
+        });
+    }
+
+    private AtomicLong counter(Class<?> entityType) {
+        return versions.computeIfAbsent(entityType, k -> new AtomicLong());
+    }
+}
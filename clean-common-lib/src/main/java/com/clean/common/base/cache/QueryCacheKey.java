@@ -0,0 +1,22 @@
+package com.clean.common.base.cache;
+
+import java.util.Map;
+
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Cache key for a query result.
+ *
+ * @param entityType the queried entity type
+ * @param operation  the service operation (e.g. "findListByCriteria")
+ * @param version    the entity version current when the query ran
+ * @param filters    canonical (key-sorted) filter criteria
+ * @param pageable   parsed pagination, or null for unpaged queries
+ */
+public record QueryCacheKey(
+        Class<?> entityType,
+        String operation,
+        long version,
+        Map<String, Object> filters,
+        Pageable pageable) {
+}
@@ -0,0 +1,22 @@
+package com.clean.common.base.cache;
+
+/**
+ * Point-in-time statistics of the query result cache.
+ *
+ * @param requestCount  total lookups
+ * @param hitCount      lookups served from cache
+ * @param missCount     lookups that went to the database
+ * @param hitRate       hitCount / requestCount (1.0 when no requests yet)
+ * @param evictionCount entries evicted by size or TTL
+ * @param estimatedSize approximate number of entries
+ * @param weightedSize  current total weight (number of cached DTOs)
+ */
+public record QueryCacheStats(
+        long requestCount,
+        long hitCount,
+        long missCount,
+        double hitRate,
+        long evictionCount,
+        long estimatedSize,
+        long weightedSize) {
+}
@@ -0,0 +1,118 @@
+package com.clean.common.base.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.clean.common.base.dto.OBPageDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded, TTL'd cache of mapped query results shared by all {@code BaseJpaService} subclasses.
+ * <p>
+ * Entries are weighted by the number of DTOs they hold, so a few large pages cannot crowd
+ * out many small lookups unnoticed. Invalidation is handled by {@link EntityVersionRegistry}:
+ * the key carries the entity version, and a write bumps it.
+ * </p>
+ * <p>
+ * Cached values are shared between callers and must be treated as read-only.
+ * </p>
+ */
+@Slf4j
+@Component
+public class QueryResultCache {
+
+    private final boolean enabled;
+    private final Cache<QueryCacheKey, Object> cache;
+
+    public QueryResultCache(
+            @Value("${clean.cache.query.enabled:true}") boolean enabled,
+            @Value("${clean.cache.query.max-weight:50000}") long maxWeight,
+            @Value("${clean.cache.query.ttl-seconds:300}") long ttlSeconds) {
+
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((QueryCacheKey key, Object value) -> weigh(value))
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        log.info("QueryResultCache initialized: enabled={}, maxWeight={}, ttl={}s", enabled, maxWeight, ttlSeconds);
+    }
+
+    /**
+     * Returns the cached value for the key, loading and caching it on a miss.
+     * Bypasses the cache inside read-write transactions so a caller always sees its own
+     * uncommitted changes.
+     *
+     * @param key    the cache key
+     * @param loader loads the value from the database on a miss
+     * @return the cached or freshly loaded value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(QueryCacheKey key, Supplier<T> loader) {
+        if (!enabled || isReadWriteTransaction()) {
+            return loader.get();
+        }
+
+        Object cached = cache.getIfPresent(key);
+        if (cached != null) {
+            log.debug("Query cache hit for {}.{}", key.entityType().getSimpleName(), key.operation());
+            return (T) cached;
+        }
+
+        T loaded = loader.get();
+        if (loaded != null) {
+            cache.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Drops every entry. Version bumps make this unnecessary for correctness; it only
+     * frees memory early.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    public QueryCacheStats stats() {
+        CacheStats stats = cache.stats();
+        long weightedSize = cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+
+        return new QueryCacheStats(
+                stats.requestCount(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                cache.estimatedSize(),
+                weightedSize);
+    }
+
+    private static boolean isReadWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private static int weigh(Object value) {
+        if (value instanceof Collection<?> collection) {
+            return Math.max(1, collection.size());
+        }
+        if (value instanceof OBPageDTO<?> page && page.getDataList() != null) {
+            return Math.max(1, page.getDataList().size());
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,45 @@
+package com.clean.common.base.cache;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drops the Hibernate second-level cache entries of an entity type: its entity data and its
+ * natural-id resolutions.
+ * <p>
+ * The second-level cache is local to each instance and only learns about writes made through
+ * it. When another instance writes, its entries must be evicted here, or lookups by id and
+ * natural id keep returning the pre-write state until the region TTL expires. A no-op when the
+ * application has no entity manager factory or no second-level cache.
+ * </p>
+ */
+@Slf4j
+@Component
+public class SecondLevelCacheEvictor {
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    public SecondLevelCacheEvictor(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Evicts every cached entity and natural id of the given type.
+     *
+     * @param entityType the entity class
+     */
+    public void evict(Class<?> entityType) {
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        if (factory == null) {
+            return;
+        }
+
+        org.hibernate.Cache cache = factory.getCache().unwrap(org.hibernate.Cache.class);
+        cache.evictEntityData(entityType);
+        cache.evictNaturalIdData(entityType);
+        log.debug("Evicted second-level cache data of {}", entityType.getSimpleName());
+    }
+}
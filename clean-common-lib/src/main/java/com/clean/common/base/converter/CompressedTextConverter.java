@@ -0,0 +1,106 @@
+package com.clean.common.base.converter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Transparently deflates large text column values.
+ * <p>
+ * Values of at least {@code clean.config.compression.min-length} characters are stored as
+ * {@value #MARKER} followed by Base64 of the deflated UTF-8 bytes, but only when that is
+ * actually shorter. Reads inflate marked values and return everything else unchanged, so
+ * legacy rows keep working and disabling compression never makes stored values unreadable.
+ * </p>
+ * <p>
+ * Compressed values cannot be matched by SQL filters such as {@code LIKE}. Apply with
+ * {@code @Convert(converter = CompressedTextConverter.class)} on the attribute; Hibernate
+ * obtains this bean through Spring's bean container.
+ * </p>
+ */
+@Slf4j
+@Component
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, String> {
+
+    /**
+     * Prefix of compressed values. Starts with the ASCII unit separator, which plain config
+     * text never contains.
+     */
+    public static final String MARKER = "\u001Fdfl1:";
+
+    private final boolean enabled;
+    private final int minLength;
+
+    public CompressedTextConverter(
+            @Value("${clean.config.compression.enabled:false}") boolean enabled,
+            @Value("${clean.config.compression.min-length:1024}") int minLength) {
+        this.enabled = enabled;
+        this.minLength = minLength;
+        log.info("CompressedTextConverter initialized: enabled={}, minLength={}", enabled, minLength);
+    }
+
+    @Override
+    public String convertToDatabaseColumn(String attribute) {
+        if (!enabled || attribute == null || attribute.length() < minLength || isCompressed(attribute)) {
+            return attribute;
+        }
+
+        String compressed = MARKER + Base64.getEncoder().encodeToString(deflate(attribute));
+        return compressed.length() < attribute.length() ? compressed : attribute;
+    }
+
+    @Override
+    public String convertToEntityAttribute(String dbData) {
+        if (!isCompressed(dbData)) {
+            return dbData;
+        }
+        return inflate(Base64.getDecoder().decode(dbData.substring(MARKER.length())));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getMinLength() {
+        return minLength;
+    }
+
+    public static boolean isCompressed(String value) {
+        return value != null && value.startsWith(MARKER);
+    }
+
+    private static byte[] deflate(String value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(value.length() / 4);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream out = new DeflaterOutputStream(bytes, deflater)) {
+            out.write(value.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String inflate(byte[] compressed) {
+        try (InflaterInputStream in = new InflaterInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt compressed value", e);
+        }
+    }
+}
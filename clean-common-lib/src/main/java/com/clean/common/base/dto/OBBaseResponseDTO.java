@@ -35,6 +35,12 @@ public class OBBaseResponseDTO<T> implements Serializable {
     private String message;
     private String referenceNo;
 
+    /**
+     * True when {@code reqData} is the last known good result, served because the database did
+     * not answer in time. Absent on fresh responses.
+     */
+    private Boolean stale;
+
     @Valid
     private T reqData;
 }
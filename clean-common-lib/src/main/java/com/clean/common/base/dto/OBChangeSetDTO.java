@@ -0,0 +1,40 @@
+package com.clean.common.base.dto;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Rows changed since a watermark, for incremental (delta) synchronization.
+ * <p>
+ * Pass {@code watermark} as the next {@code since}. The lower bound is inclusive, so rows
+ * updated in the same second as the previous watermark are returned again; consumers must
+ * apply changes idempotently (upsert by id or key).
+ * </p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OBChangeSetDTO<T> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private LocalDateTime since;
+
+    private LocalDateTime watermark;
+
+    @Builder.Default
+    private List<T> dataList = new ArrayList<>();
+}
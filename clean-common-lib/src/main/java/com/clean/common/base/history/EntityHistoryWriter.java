@@ -0,0 +1,150 @@
+package com.clean.common.base.history;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Appends the committed state of written rows to the history table of their entity.
+ * <p>
+ * Ids written during a transaction are collected and, just before commit, copied in one
+ * {@code INSERT ... SELECT} per entity type and chunk, so a transaction writing many rows costs
+ * a few statements and a row written twice is recorded once, in its final state. The history
+ * rows commit or roll back together with the write. Disabled unless
+ * {@code clean.history.enabled=true}, and a no-op for entities without {@link HistoryTable}.
+ * </p>
+ */
+@Slf4j
+@Component
+public class EntityHistoryWriter {
+
+    private static final int IDS_PER_STATEMENT = 1000;
+
+    private final ObjectProvider<JdbcTemplate> jdbcTemplate;
+    private final boolean enabled;
+    private final Map<Class<?>, Optional<String>> insertSql = new ConcurrentHashMap<>();
+
+    public EntityHistoryWriter(
+            ObjectProvider<JdbcTemplate> jdbcTemplate,
+            @Value("${clean.history.enabled:false}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        log.info("EntityHistoryWriter initialized: enabled={}", enabled);
+    }
+
+    /**
+     * Whether writes of the entity type are recorded. Callers must flush pending changes of
+     * recorded entities before the transaction commits, because the copy reads the table.
+     */
+    public boolean isRecorded(Class<?> entityType) {
+        return enabled && insertSql(entityType).isPresent();
+    }
+
+    /**
+     * Records the rows once the surrounding transaction is about to commit, or immediately
+     * when no transaction synchronization is active.
+     *
+     * @param entityType the entity class
+     * @param ids        primary keys of the written rows
+     */
+    public void record(Class<?> entityType, Collection<Long> ids) {
+        if (!isRecorded(entityType) || ids.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(entityType, ids);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<Class<?>, Set<Long>> pending = (Map<Class<?>, Set<Long>>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Map<Class<?>, Set<Long>> created = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    created.forEach(EntityHistoryWriter.this::write);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(EntityHistoryWriter.this);
+                }
+            });
+            pending = created;
+        }
+        pending.computeIfAbsent(entityType, k -> new LinkedHashSet<>()).addAll(ids);
+    }
+
+    private void write(Class<?> entityType, Collection<Long> ids) {
+        String sql = insertSql(entityType).orElseThrow();
+        List<Long> all = new ArrayList<>(ids);
+        int recorded = 0;
+        for (int from = 0; from < all.size(); from += IDS_PER_STATEMENT) {
+            List<Long> chunk = all.subList(from, Math.min(from + IDS_PER_STATEMENT, all.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            recorded += jdbcTemplate.getObject().update(sql + placeholders + ")", chunk.toArray());
+        }
+        log.debug("Recorded {} history rows of {}", recorded, entityType.getSimpleName());
+    }
+
+    /**
+     * Builds {@code INSERT INTO <history> (valid_from, <columns>) SELECT <validFrom>, <columns>
+     * FROM <table> WHERE <id> IN (}, or empty when the entity has no {@link HistoryTable}.
+     */
+    private Optional<String> insertSql(Class<?> entityType) {
+        return insertSql.computeIfAbsent(entityType, type -> {
+            HistoryTable history = type.getAnnotation(HistoryTable.class);
+            Table table = type.getAnnotation(Table.class);
+            if (history == null || table == null) {
+                return Optional.empty();
+            }
+
+            List<String> columns = new ArrayList<>();
+            String idColumn = null;
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    Column column = field.getAnnotation(Column.class);
+                    if (column == null || column.name().isBlank()) {
+                        continue;
+                    }
+                    columns.add(column.name());
+                    if (field.isAnnotationPresent(Id.class)) {
+                        idColumn = column.name();
+                    }
+                }
+            }
+            if (idColumn == null) {
+                throw new IllegalStateException(type.getName() + " has no @Id @Column for its history table");
+            }
+
+            String columnList = String.join(", ", columns);
+            return Optional.of("INSERT INTO " + history.value() + " (valid_from, " + columnList + ") SELECT "
+                    + history.validFrom() + ", " + columnList + " FROM " + table.name()
+                    + " WHERE " + idColumn + " IN (");
+        });
+    }
+}
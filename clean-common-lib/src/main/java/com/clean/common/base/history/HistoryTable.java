@@ -0,0 +1,32 @@
+package com.clean.common.base.history;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an entity whose committed writes through {@code BaseJpaService} are appended to a
+ * history table by {@link EntityHistoryWriter}.
+ * <p>
+ * The history table must contain every {@code @Column} of the entity under the same name, plus
+ * an auto-increment {@code history_id} and a {@code valid_from} column.
+ * </p>
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface HistoryTable {
+
+    /**
+     * History table name.
+     */
+    String value();
+
+    /**
+     * Column of the entity table copied into {@code valid_from}: the time the row version
+     * became current.
+     */
+    String validFrom() default "updated_on";
+}
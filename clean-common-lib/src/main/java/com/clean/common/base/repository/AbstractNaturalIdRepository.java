@@ -0,0 +1,72 @@
+package com.clean.common.base.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Base implementation of {@link NaturalIdRepository} using Hibernate's natural-id API.
+ * Subclass it as the {@code Impl} of a domain-specific fragment interface.
+ *
+ * @param <E> the entity type
+ * @param <N> the natural id type
+ */
+public abstract class AbstractNaturalIdRepository<E, N> implements NaturalIdRepository<E, N> {
+
+    private final EntityManager entityManager;
+    private final Class<E> entityType;
+
+    protected AbstractNaturalIdRepository(EntityManager entityManager, Class<E> entityType) {
+        this.entityManager = entityManager;
+        this.entityType = entityType;
+    }
+
+    @Override
+    public Optional<E> findByNaturalId(N naturalId) {
+        if (naturalId == null) {
+            return Optional.empty();
+        }
+        return session().bySimpleNaturalId(entityType).loadOptional(naturalId);
+    }
+
+    @Override
+    public Optional<E> findByNaturalIdFromDatabase(N naturalId) {
+        if (naturalId == null) {
+            return Optional.empty();
+        }
+        Session session = session();
+        CacheMode previous = session.getCacheMode();
+        session.setCacheMode(CacheMode.REFRESH);
+        try {
+            return session.bySimpleNaturalId(entityType).loadOptional(naturalId);
+        } finally {
+            session.setCacheMode(previous);
+        }
+    }
+
+    @Override
+    public List<E> findAllByNaturalIds(Collection<N> naturalIds) {
+        if (naturalIds == null || naturalIds.isEmpty()) {
+            return List.of();
+        }
+
+        var loadAccess = session().bySimpleNaturalId(entityType);
+        List<E> entities = new ArrayList<>(naturalIds.size());
+        for (N naturalId : naturalIds) {
+            if (naturalId != null) {
+                loadAccess.loadOptional(naturalId).ifPresent(entities::add);
+            }
+        }
+        return entities;
+    }
+
+    private Session session() {
+        return entityManager.unwrap(Session.class);
+    }
+}
@@ -0,0 +1,31 @@
+package com.clean.common.base.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository fragment for lookups by a Hibernate {@code @NaturalId}.
+ * When the entity declares {@code @NaturalIdCache}, warm lookups resolve the id and the
+ * entity from the second-level cache without issuing SQL.
+ *
+ * @param <E> the entity type
+ * @param <N> the natural id type
+ */
+public interface NaturalIdRepository<E, N> {
+
+    Optional<E> findByNaturalId(N naturalId);
+
+    /**
+     * Loads by natural id from the database, ignoring what the second-level cache holds; the
+     * loaded state is still written to the cache. For loads whose result is shared beyond this
+     * instance, which must not spread a stale cache entry.
+     */
+    Optional<E> findByNaturalIdFromDatabase(N naturalId);
+
+    /**
+     * Loads several entities by natural id, preserving the order of the given ids and
+     * skipping ids that do not exist.
+     */
+    List<E> findAllByNaturalIds(Collection<N> naturalIds);
+}
@@ -0,0 +1,218 @@
+package com.clean.common.base.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Concurrency limit that follows the latency of the work it admits (gradient algorithm).
+ * <p>
+ * Every {@code windowSize} releases the shortest hold time of the window is compared with a
+ * slowly moving long-term average of those minimums. While they agree within
+ * {@code tolerance} the limit grows by about its square root; when the short-term latency
+ * rises, work is queuing downstream and the limit shrinks in proportion, down to half per
+ * window. The minimum rather than the mean is used so an occasional long transaction does not
+ * read as overload. The limit only grows while at least half of it is in use.
+ * </p>
+ * <p>
+ * Callers beyond the limit wait up to {@code maxWait}, at most {@code maxQueue} of them;
+ * everyone else is rejected with {@link ConcurrencyLimitExceededException} at once.
+ * </p>
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    private static final int LONG_WINDOWS = 100;
+    private static final double LONG_RTT_WEIGHT = 2.0 / (LONG_WINDOWS + 1);
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+    private final int windowSize;
+    private final double tolerance;
+    private final double smoothing;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    // Guarded by lock
+    private double estimatedLimit;
+    private int inFlight;
+    private int waiting;
+    private int windowSamples;
+    private int windowMaxInFlight;
+    private long windowMinRtt = Long.MAX_VALUE;
+    private double shortRtt;
+    private double longRtt;
+    private long acquired;
+    private long rejected;
+    private long queued;
+    private long queueNanos;
+    private long maxQueueNanos;
+
+    /**
+     * @param minLimit     lowest limit
+     * @param maxLimit     highest limit, also the starting point
+     * @param maxQueue     callers allowed to wait for a permit at the same time
+     * @param maxWaitMs    longest wait for a permit; 0 rejects as soon as the limit is reached
+     * @param windowSize   releases per limit update
+     * @param tolerance    short-term latency may exceed the long-term one by this factor before the limit drops
+     * @param smoothing    share of each computed limit applied, from 0 (never move) to 1 (move at once)
+     */
+    public AdaptiveConcurrencyLimiter(int minLimit, int maxLimit, int maxQueue, long maxWaitMs, int windowSize,
+            double tolerance, double smoothing) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= max");
+        }
+        if (windowSize < 1 || tolerance < 1.0 || smoothing <= 0 || smoothing > 1.0) {
+            throw new IllegalArgumentException("Invalid window size, tolerance or smoothing");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueue = maxQueue;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        this.windowSize = windowSize;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.estimatedLimit = maxLimit;
+    }
+
+    /**
+     * Takes a permit, waiting briefly if the limit is reached.
+     *
+     * @return the time the permit was granted, to pass to {@link #release(long)}
+     * @throws ConcurrencyLimitExceededException if no permit became free in time
+     */
+    public long acquire() throws ConcurrencyLimitExceededException {
+        long start = System.nanoTime();
+        lock.lock();
+        try {
+            if (inFlight < limit()) {
+                return grant();
+            }
+            if (waiting >= maxQueue || maxWaitNanos <= 0) {
+                throw reject("limit " + limit() + " reached, " + waiting + " waiting");
+            }
+
+            waiting++;
+            queued++;
+            try {
+                long remaining = maxWaitNanos;
+                while (inFlight >= limit()) {
+                    if (remaining <= 0) {
+                        throw reject("no permit within " + TimeUnit.NANOSECONDS.toMillis(maxWaitNanos) + " ms");
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw reject("interrupted while waiting");
+            } finally {
+                waiting--;
+                long waited = System.nanoTime() - start;
+                queueNanos += waited;
+                maxQueueNanos = Math.max(maxQueueNanos, waited);
+            }
+            return grant();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a permit and records how long it was held.
+     *
+     * @param acquiredAt the value returned by {@link #acquire()}
+     */
+    public void release(long acquiredAt) {
+        long rtt = System.nanoTime() - acquiredAt;
+        lock.lock();
+        try {
+            inFlight--;
+            sample(rtt);
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Stats stats() {
+        lock.lock();
+        try {
+            return new Stats(limit(), inFlight, waiting, acquired, rejected, queued,
+                    queued == 0 ? 0 : queueNanos / 1_000_000.0 / queued, maxQueueNanos / 1_000_000.0,
+                    shortRtt / 1_000_000.0, longRtt / 1_000_000.0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int limit() {
+        return (int) estimatedLimit;
+    }
+
+    private long grant() {
+        inFlight++;
+        acquired++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlight);
+        return System.nanoTime();
+    }
+
+    private ConcurrencyLimitExceededException reject(String reason) {
+        rejected++;
+        return new ConcurrencyLimitExceededException("Database concurrency limit exceeded: " + reason);
+    }
+
+    private void sample(long rtt) {
+        windowMinRtt = Math.min(windowMinRtt, rtt);
+        if (++windowSamples < windowSize) {
+            return;
+        }
+
+        shortRtt = Math.max(windowMinRtt, 1);
+        longRtt = longRtt == 0 ? shortRtt : longRtt + (shortRtt - longRtt) * LONG_RTT_WEIGHT;
+        // After a slow period the long-term average lags far behind; let it catch up
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / shortRtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        if (newLimit > estimatedLimit && windowMaxInFlight < estimatedLimit / 2) {
+            newLimit = estimatedLimit;
+        }
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        newLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+
+        if ((int) newLimit != limit()) {
+            log.debug("Database concurrency limit {} -> {} (short rtt {} ms, long rtt {} ms)", limit(),
+                    (int) newLimit, String.format("%.2f", shortRtt / 1_000_000.0),
+                    String.format("%.2f", longRtt / 1_000_000.0));
+        }
+        estimatedLimit = newLimit;
+        windowSamples = 0;
+        windowMaxInFlight = inFlight;
+        windowMinRtt = Long.MAX_VALUE;
+    }
+
+    /**
+     * Point-in-time state of the limiter.
+     *
+     * @param limit      current concurrency limit
+     * @param inFlight   permits held
+     * @param waiting    callers waiting for a permit
+     * @param acquired   permits granted since startup
+     * @param rejected   callers shed since startup
+     * @param queued     callers that had to wait before getting a permit or being shed
+     * @param avgQueueMs average wait of the queued callers, until granted or shed
+     * @param maxQueueMs longest such wait
+     * @param shortRttMs shortest hold time of the last window
+     * @param longRttMs  long-term average of the window minimums
+     */
+    public record Stats(int limit, int inFlight, int waiting, long acquired, long rejected, long queued,
+            double avgQueueMs, double maxQueueMs, double shortRttMs, double longRttMs) {
+    }
+}
@@ -0,0 +1,102 @@
+package com.clean.common.base.resilience;
+
+import java.time.Duration;
+
+/**
+ * Minimal consecutive-failure circuit breaker.
+ * <ul>
+ * <li>CLOSED: calls pass; {@code failureThreshold} consecutive failures open the circuit.</li>
+ * <li>OPEN: calls are rejected until {@code openDuration} has passed.</li>
+ * <li>HALF_OPEN: exactly one probe call passes; its success closes the circuit, its failure
+ * opens it again. A probe that reports neither within {@code probeTimeout} counts as failed.</li>
+ * </ul>
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final long probeTimeoutNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private long probeStartedAt;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, openDuration);
+    }
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration, Duration probeTimeout) {
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("Failure threshold must be positive");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.probeTimeoutNanos = probeTimeout.toNanos();
+    }
+
+    /**
+     * Returns whether a call may proceed. Moves OPEN to HALF_OPEN once the open duration has
+     * passed, admitting the caller as the probe.
+     */
+    public synchronized boolean tryAcquire() {
+        return switch (state) {
+            case CLOSED -> true;
+            case HALF_OPEN -> {
+                // A probe that never reported back must not keep the circuit half open for good
+                if (System.nanoTime() - probeStartedAt >= probeTimeoutNanos) {
+                    open();
+                }
+                yield false;
+            }
+            case OPEN -> {
+                if (System.nanoTime() - openedAt < openNanos) {
+                    yield false;
+                }
+                state = State.HALF_OPEN;
+                probeStartedAt = System.nanoTime();
+                yield true;
+            }
+        };
+    }
+
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        state = State.CLOSED;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            open();
+        }
+    }
+
+    /**
+     * Ends a call that neither succeeded nor failed, such as one shed by a concurrency limit.
+     * The failure count is left alone; if the call was the probe, the circuit opens again so
+     * the next open interval admits another one.
+     */
+    public synchronized void onAbandoned() {
+        if (state == State.HALF_OPEN) {
+            open();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+    }
+}
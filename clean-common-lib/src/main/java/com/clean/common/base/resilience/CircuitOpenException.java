@@ -0,0 +1,18 @@
+package com.clean.common.base.resilience;
+
+/**
+ * Thrown by {@link ResilientReadCache} when a read can neither reach the database in time nor
+ * be answered from the last known good result.
+ */
+public class CircuitOpenException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public CircuitOpenException(String message) {
+        super(message);
+    }
+
+    public CircuitOpenException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
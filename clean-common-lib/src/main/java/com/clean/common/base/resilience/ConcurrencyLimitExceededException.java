@@ -0,0 +1,29 @@
+package com.clean.common.base.resilience;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * Thrown by {@link AdaptiveConcurrencyLimiter} when a connection request is shed instead of
+ * queued. It is a {@link SQLTransientConnectionException}, like a connection pool timeout, so
+ * JPA and Spring translate it into the usual data-access exceptions.
+ */
+public class ConcurrencyLimitExceededException extends SQLTransientConnectionException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ConcurrencyLimitExceededException(String message) {
+        super(message);
+    }
+
+    /**
+     * Returns whether {@code failure} was caused by a shed connection request.
+     */
+    public static boolean isCause(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConcurrencyLimitExceededException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
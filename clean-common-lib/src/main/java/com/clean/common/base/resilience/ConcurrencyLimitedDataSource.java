@@ -0,0 +1,93 @@
+package com.clean.common.base.resilience;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * {@link DataSource} that takes a permit from an {@link AdaptiveConcurrencyLimiter} before
+ * borrowing a connection and returns it when the connection is closed, so the limiter learns
+ * from how long connections are held.
+ * <p>
+ * Requests beyond the limit fail with {@link ConcurrencyLimitExceededException} right away
+ * instead of queuing inside the pool for its connection timeout. Only real database work is
+ * limited: reads answered from a cache never borrow a connection.
+ * </p>
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitedDataSource(DataSource targetDataSource, AdaptiveConcurrencyLimiter limiter) {
+        super(targetDataSource);
+        this.limiter = limiter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long permit = limiter.acquire();
+        try {
+            return limited(obtainTargetDataSource().getConnection(), permit);
+        } catch (SQLException | RuntimeException | Error e) {
+            limiter.release(permit);
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long permit = limiter.acquire();
+        try {
+            return limited(obtainTargetDataSource().getConnection(username, password), permit);
+        } catch (SQLException | RuntimeException | Error e) {
+            limiter.release(permit);
+            throw e;
+        }
+    }
+
+    public AdaptiveConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+
+    private Connection limited(Connection connection, long permit) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "unwrap":
+                            if (((Class<?>) args[0]).isInstance(proxy)) {
+                                return proxy;
+                            }
+                            break;
+                        case "isWrapperFor":
+                            if (((Class<?>) args[0]).isInstance(proxy)) {
+                                return true;
+                            }
+                            break;
+                        default:
+                            break;
+                    }
+
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    } finally {
+                        // Closing twice is legal JDBC; the permit goes back once
+                        if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                            limiter.release(permit);
+                        }
+                    }
+                });
+    }
+}
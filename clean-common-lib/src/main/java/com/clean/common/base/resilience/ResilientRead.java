@@ -0,0 +1,11 @@
+package com.clean.common.base.resilience;
+
+/**
+ * Result of {@link ResilientReadCache#read}.
+ *
+ * @param value the result
+ * @param stale true when the value is the last known good result, served because the
+ *              database did not answer in time
+ */
+public record ResilientRead<T>(T value, boolean stale) {
+}
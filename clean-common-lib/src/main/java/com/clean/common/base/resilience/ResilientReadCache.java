@@ -0,0 +1,271 @@
+package com.clean.common.base.resilience;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.persistence.PersistenceException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Stale-while-revalidate wrapper for database reads.
+ * <p>
+ * Every read runs on a small bounded pool and is awaited for at most
+ * {@code clean.resilience.read.timeout-ms}. When it does not answer in time, or fails with a
+ * data-access error, the last known good result for the same key is returned flagged as stale
+ * while the load keeps running in the background and refreshes the entry if it completes.
+ * Concurrent reads of one key share a single in-flight load. {@link #readAsync} does the same
+ * without blocking the caller, on an executor of the caller's choosing.
+ * </p>
+ * <p>
+ * Timeouts and data-access failures feed one {@link CircuitBreaker}. While it is open reads do
+ * not touch the database at all: they are answered stale or rejected with
+ * {@link CircuitOpenException} immediately, so a stalled database cannot hold request threads
+ * for the pool's connection timeout. Other exceptions are rethrown unchanged.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ResilientReadCache implements DisposableBean {
+
+    private final long timeoutMillis;
+    private final CircuitBreaker circuitBreaker;
+    private final Cache<String, Object> lastKnownGood;
+    private final Map<String, Load> inFlight = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+
+    public ResilientReadCache(
+            @Value("${clean.resilience.read.timeout-ms:2000}") long timeoutMillis,
+            @Value("${clean.resilience.read.failure-threshold:5}") int failureThreshold,
+            @Value("${clean.resilience.read.open-ms:10000}") long openMillis,
+            @Value("${clean.resilience.read.max-entries:1000}") long maxEntries,
+            @Value("${clean.resilience.read.threads:16}") int threads,
+            @Value("${clean.resilience.read.queue-capacity:256}") int queueCapacity) {
+        this.timeoutMillis = timeoutMillis;
+        // A probe load gets the read timeout plus the open interval before it counts as failed
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, Duration.ofMillis(openMillis),
+                Duration.ofMillis(timeoutMillis + openMillis));
+        this.lastKnownGood = Caffeine.newBuilder().maximumSize(maxEntries).build();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "resilient-read");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+        log.info("ResilientReadCache initialized: timeout={}ms, failureThreshold={}, open={}ms, threads={}",
+                timeoutMillis, failureThreshold, openMillis, threads);
+    }
+
+    /**
+     * Loads the value for {@code key}, falling back to its last known good value.
+     *
+     * @param key    identifies the query and its arguments
+     * @param loader the database read; runs on another thread, so it must open its own
+     *               transaction (e.g. a call through a transactional service proxy)
+     * @throws CircuitOpenException if the load failed or timed out and no previous value exists
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ResilientRead<T> read(String key, Supplier<T> loader) {
+        if (!circuitBreaker.tryAcquire()) {
+            return stale(key, "circuit open", null);
+        }
+
+        Load load;
+        try {
+            load = loadFor(key, loader, executor);
+        } catch (RejectedExecutionException e) {
+            circuitBreaker.onFailure();
+            return stale(key, "read pool saturated", e);
+        }
+
+        try {
+            return new ResilientRead<>((T) load.future.get(timeoutMillis, TimeUnit.MILLISECONDS), false);
+        } catch (TimeoutException e) {
+            load.countFailure();
+            return stale(key, "timed out after " + timeoutMillis + " ms", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return stale(key, "interrupted", e);
+        } catch (ExecutionException e) {
+            if (isDataAccessFailure(e.getCause())) {
+                return stale(key, e.getCause().getMessage(), e.getCause());
+            }
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : new CompletionException(e.getCause());
+        }
+    }
+
+    /**
+     * Non-blocking form of {@link #read(String, Supplier)}: the load runs on {@code loadExecutor}
+     * and the returned future completes with the fresh value, or with the last known good value
+     * once the load fails or exceeds the timeout. No thread of the caller waits meanwhile.
+     *
+     * @param key          identifies the query and its arguments
+     * @param loader       the database read; must open its own transaction
+     * @param loadExecutor runs the load; when it rejects the task the read is answered stale
+     * @return a future failing with {@link CircuitOpenException} if there is no value to serve
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<ResilientRead<T>> readAsync(String key, Supplier<T> loader, Executor loadExecutor) {
+        if (!circuitBreaker.tryAcquire()) {
+            return staleAsync(key, "circuit open", null);
+        }
+
+        Load load;
+        try {
+            load = loadFor(key, loader, loadExecutor);
+        } catch (RejectedExecutionException e) {
+            circuitBreaker.onFailure();
+            return staleAsync(key, "database executor saturated", e);
+        }
+
+        // Time out a copy: the shared load keeps running and still refreshes the entry
+        return load.future.copy().orTimeout(timeoutMillis, TimeUnit.MILLISECONDS).handle((value, failure) -> {
+            if (failure == null) {
+                return new ResilientRead<>((T) value, false);
+            }
+            Throwable cause = unwrap(failure);
+            if (cause instanceof TimeoutException) {
+                load.countFailure();
+                return stale(key, "timed out after " + timeoutMillis + " ms", cause);
+            }
+            if (isDataAccessFailure(cause)) {
+                return stale(key, cause.getMessage(), cause);
+            }
+            throw cause instanceof RuntimeException runtime ? runtime : new CompletionException(cause);
+        });
+    }
+
+    public CircuitBreaker.State getState() {
+        return circuitBreaker.getState();
+    }
+
+    public long getCachedEntries() {
+        return lastKnownGood.estimatedSize();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Joins the in-flight load of {@code key} or starts one. The load is started outside the
+     * map's compute lock: a loader finishing at once would otherwise run the completion, which
+     * removes the entry, inside that lock.
+     */
+    private Load loadFor(String key, Supplier<?> loader, Executor loadExecutor) {
+        Load existing = inFlight.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        Load load = new Load();
+        existing = inFlight.putIfAbsent(key, load);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            CompletableFuture.supplyAsync(loader::get, loadExecutor)
+                    .whenComplete((value, failure) -> complete(key, load, value, failure));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, load);
+            load.future.completeExceptionally(e);
+            throw e;
+        }
+        return load;
+    }
+
+    /**
+     * Records the outcome of a load before handing it to its readers, so a reader that got the
+     * value sees the breaker and the last known good value already updated.
+     */
+    private void complete(String key, Load load, Object value, Throwable failure) {
+        inFlight.remove(key, load);
+        if (failure == null) {
+            if (value != null) {
+                lastKnownGood.put(key, value);
+            }
+            circuitBreaker.onSuccess();
+            load.future.complete(value);
+            return;
+        }
+
+        if (!isDataAccessFailure(unwrap(failure))) {
+            // The database answered and the loader failed on the result; a probe still succeeded
+            circuitBreaker.onSuccess();
+        } else if (ConcurrencyLimitExceededException.isCause(failure)) {
+            // A shed load says the database is busy, not broken; it only ends a pending probe
+            circuitBreaker.onAbandoned();
+        } else {
+            load.countFailure();
+        }
+        load.future.completeExceptionally(failure);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ResilientRead<T> stale(String key, String reason, Throwable cause) {
+        Object value = lastKnownGood.getIfPresent(key);
+        if (value == null) {
+            throw new CircuitOpenException("Database unavailable (" + reason + ") and no cached result for " + key,
+                    cause);
+        }
+        log.warn("Serving stale result for {}: {}", key, reason);
+        return new ResilientRead<>((T) value, true);
+    }
+
+    private <T> CompletableFuture<ResilientRead<T>> staleAsync(String key, String reason, Throwable cause) {
+        try {
+            return CompletableFuture.completedFuture(stale(key, reason, cause));
+        } catch (CircuitOpenException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+
+    private static boolean isDataAccessFailure(Throwable failure) {
+        return failure instanceof DataAccessException
+                || failure instanceof TransactionException
+                || failure instanceof PersistenceException;
+    }
+
+    /**
+     * A load shared by every concurrent read of one key. However many readers time out on it,
+     * and whether it later fails as well, it feeds the circuit breaker at most one failure.
+     */
+    private final class Load {
+
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        private final AtomicBoolean failureCounted = new AtomicBoolean();
+
+        private void countFailure() {
+            if (failureCounted.compareAndSet(false, true)) {
+                circuitBreaker.onFailure();
+            }
+        }
+    }
+}
@@ -1,10 +1,19 @@
 package com.clean.common.base.service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
@@ -12,12 +21,19 @@ import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.EntityNotFoundException;
 
+import com.clean.common.base.cache.EntityVersionRegistry;
+import com.clean.common.base.cache.QueryCacheKey;
+import com.clean.common.base.cache.QueryResultCache;
 import com.clean.common.base.component.DynamicFilterComponent;
 import com.clean.common.base.dto.OBBaseDTO;
+import com.clean.common.base.dto.OBChangeSetDTO;
 import com.clean.common.base.dto.OBPageDTO;
 import com.clean.common.base.dto.OBPageRequestDTO;
+import com.clean.common.base.history.EntityHistoryWriter;
 import com.clean.common.base.mapper.BaseEntityMapper;
+import com.clean.common.util.JPASpecificationUtils;
 import com.clean.common.util.PaginationUtils;
+import com.clean.common.util.RequestFilterUtil;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -27,12 +43,47 @@ public abstract class BaseJpaService<E, D extends OBBaseDTO, R extends OBPageReq
 
     protected final REPO repository;
     protected final BaseEntityMapper<E, D> mapper;
+    protected final Class<E> entityType;
     private final DynamicFilterComponent filterComponent;
+    private final QueryResultCache queryCache;
+    private final EntityVersionRegistry versionRegistry;
+    private final EntityHistoryWriter historyWriter;
+
+    // A row is stamped when written but visible only at commit, so a long transaction can commit
+    // rows older than a watermark other writers already moved past; they are picked up by looking
+    // back this far (at least the longest write transaction)
+    @Value("${clean.sync.watermark-overlap-ms:120000}")
+    private long watermarkOverlapMs;
 
     protected BaseJpaService(REPO repository, BaseEntityMapper<E, D> mapper, DynamicFilterComponent filterComponent) {
+        this(repository, mapper, filterComponent, null, null);
+    }
+
+    /**
+     * Creates a service whose list and page queries are served from {@code queryCache}
+     * until a write bumps the entity version in {@code versionRegistry}.
+     */
+    protected BaseJpaService(REPO repository, BaseEntityMapper<E, D> mapper, DynamicFilterComponent filterComponent,
+            QueryResultCache queryCache, EntityVersionRegistry versionRegistry) {
+        this(repository, mapper, filterComponent, queryCache, versionRegistry, null);
+    }
+
+    /**
+     * Creates a cached service whose writes are also appended to the entity's history table
+     * through {@code historyWriter}.
+     */
+    protected BaseJpaService(REPO repository, BaseEntityMapper<E, D> mapper, DynamicFilterComponent filterComponent,
+            QueryResultCache queryCache, EntityVersionRegistry versionRegistry, EntityHistoryWriter historyWriter) {
         this.repository = repository;
         this.mapper = mapper;
         this.filterComponent = filterComponent;
+        this.queryCache = queryCache;
+        this.versionRegistry = versionRegistry;
+        this.historyWriter = historyWriter;
+        this.entityType = resolveEntityType();
+        if (versionRegistry != null) {
+            versionRegistry.register(entityType);
+        }
     }
 
     public List<D> findAll() {
@@ -46,6 +97,11 @@ public abstract class BaseJpaService<E, D extends OBBaseDTO, R extends OBPageReq
     public OBPageDTO<D> findAll(R requestFilter) {
 
         Pageable pageable = PaginationUtils.getPageable(requestFilter);
+        return cached("findAll", Collections.emptyMap(), pageable, () -> loadAll(pageable));
+    }
+
+    private OBPageDTO<D> loadAll(Pageable pageable) {
+
         var entityPage = repository.findAll(pageable);
         var dtoPage = entityPage.map(mapper::toDto);
         log.debug("Retrieved {} records out of {} total", dtoPage.getContent().size(), dtoPage.getTotalElements());
@@ -80,23 +136,83 @@ public abstract class BaseJpaService<E, D extends OBBaseDTO, R extends OBPageReq
 
     public List<D> findListByCriteria(R request){
 
+        return cached("findListByCriteria", RequestFilterUtil.getCanonicalFilterCriteria(request), null,
+            () -> loadListByCriteria(request));
+    }
+
+    private List<D> loadListByCriteria(R request){
+
         Specification<E> spec = Specification.where(filterComponent.<E, R>buildSpecification(request));
         List<E> entities = repository.findAll(spec);
         List<D> dtos = mapper.toDtoList(entities);
         log.debug("Found {} records matching criteria", dtos.size());
-        return dtos;
+        return Collections.unmodifiableList(dtos);
     }
 
     public OBPageDTO<D> findPageByCriteria(R request){
 
-        Specification<E> spec = Specification.where(filterComponent.<E, R>buildSpecification(request));
         Pageable pageable = PaginationUtils.getPageable(request);
+        return cached("findPageByCriteria", RequestFilterUtil.getCanonicalFilterCriteria(request), pageable,
+            () -> loadPageByCriteria(request, pageable));
+    }
+
+    private OBPageDTO<D> loadPageByCriteria(R request, Pageable pageable){
+
+        Specification<E> spec = Specification.where(filterComponent.<E, R>buildSpecification(request));
         var entityPage = repository.findAll(spec, pageable);
         var dtoPage = entityPage.map(mapper::toDto);
         log.debug("Found {} records out of {} total matching criteria", dtoPage.getContent().size(), dtoPage.getTotalElements());
         return new OBPageDTO<>(dtoPage);
     }
 
+    /**
+     * Returns the rows whose watermark column is at or after {@code since}, oldest first,
+     * together with the new watermark to pass on the next call. A null {@code since}
+     * returns every row. Backed by an index on the watermark column, the cost is
+     * proportional to the number of changes rather than the table size.
+     * <p>
+     * The query starts {@code clean.sync.watermark-overlap-ms} before {@code since} so rows of
+     * transactions that committed late are not skipped. Callers therefore get rows they already
+     * have again and must skip unchanged ones.
+     * </p>
+     *
+     * @param since the previous watermark (inclusive), or null for a full load
+     * @return the change set
+     */
+    public OBChangeSetDTO<D> findChangedSince(LocalDateTime since){
+
+        // Not served from the query cache: the local entity version does not see writes made
+        // by other instances, and detecting those is the point of polling for changes
+        String watermarkField = getWatermarkField();
+        LocalDateTime from = since != null ? since.minus(Duration.ofMillis(watermarkOverlapMs)) : null;
+        Specification<E> spec = JPASpecificationUtils.greaterThanOrEqualTo(watermarkField, from);
+        List<E> entities = repository.findAll(spec, Sort.by(Sort.Direction.ASC, watermarkField));
+        List<D> dtos = mapper.toDtoList(entities);
+
+        LocalDateTime watermark = since;
+        for (D dto : dtos) {
+            LocalDateTime updatedOn = dto.getUpdatedOn();
+            if (updatedOn != null && (watermark == null || updatedOn.isAfter(watermark))) {
+                watermark = updatedOn;
+            }
+        }
+
+        log.debug("Found {} records changed since {}, new watermark {}", dtos.size(), since, watermark);
+        return OBChangeSetDTO.<D>builder()
+            .since(since)
+            .watermark(watermark)
+            .dataList(Collections.unmodifiableList(dtos))
+            .build();
+    }
+
+    /**
+     * Entity attribute used as the change watermark by {@link #findChangedSince}.
+     * Must be maintained by the database or Hibernate on every insert and update.
+     */
+    protected String getWatermarkField() {
+        return "updatedOn";
+    }
+
     @Transactional
     public D add(D dto){
         if (dto == null) {
@@ -110,8 +226,10 @@ public abstract class BaseJpaService<E, D extends OBBaseDTO, R extends OBPageReq
             throw new IllegalStateException("Mapper failed to convert DTO to entity");
         }
 
-        var savedEntity = repository.save(entity);
+        var savedEntity = save(entity);
+        invalidateQueryCache();
         D result = mapper.toDto(savedEntity);
+        recordHistory(List.of(result.getId()));
         log.info("Successfully added new record with ID: {}", result.getId());
         return result;
     }
@@ -136,9 +254,62 @@ public abstract class BaseJpaService<E, D extends OBBaseDTO, R extends OBPageReq
             });
 
         mapper.updateEntityFromDto(dto, existingEntity);
-        var savedEntity = repository.save(Objects.requireNonNull(existingEntity));
+        var savedEntity = save(Objects.requireNonNull(existingEntity));
+        invalidateQueryCache();
         D result = mapper.toDto(savedEntity);
+        recordHistory(List.of(dtoId));
         log.info("Successfully updated record with ID: {}", dtoId);
         return result;
     }
+
+    /**
+     * Invalidates every cached query result of this entity type once the current
+     * transaction commits, and increments the shared version row in it when enabled.
+     * Subclasses must call this after any bulk write that bypasses {@link #add} and
+     * {@link #update}.
+     */
+    protected void invalidateQueryCache() {
+        if (versionRegistry != null) {
+            versionRegistry.bumpAfterCommit(entityType);
+        }
+    }
+
+    /**
+     * Appends the committed state of the given rows to the entity's history table, if it has
+     * one. Subclasses must call this after any bulk write that bypasses {@link #add} and
+     * {@link #update}, once the write has reached the database.
+     */
+    protected void recordHistory(Collection<Long> ids) {
+        if (historyWriter != null) {
+            historyWriter.record(entityType, ids);
+        }
+    }
+
+    private E save(E entity) {
+        // History rows are copied from the table before commit, so the write must be flushed
+        if (historyWriter != null && historyWriter.isRecorded(entityType)) {
+            return repository.saveAndFlush(entity);
+        }
+        return repository.save(entity);
+    }
+
+    private <T> T cached(String operation, Map<String, Object> filters, Pageable pageable,
+            Supplier<T> loader) {
+
+        if (queryCache == null || versionRegistry == null) {
+            return loader.get();
+        }
+
+        var key = new QueryCacheKey(entityType, operation, versionRegistry.current(entityType), filters, pageable);
+        return queryCache.get(key, loader);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Class<E> resolveEntityType() {
+        Class<?>[] typeArguments = GenericTypeResolver.resolveTypeArguments(getClass(), BaseJpaService.class);
+        if (typeArguments == null || typeArguments[0] == null) {
+            throw new IllegalStateException("Cannot resolve entity type of " + getClass().getName());
+        }
+        return (Class<E>) typeArguments[0];
+    }
 }
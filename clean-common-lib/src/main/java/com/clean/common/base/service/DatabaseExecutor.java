@@ -0,0 +1,85 @@
+package com.clean.common.base.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded pool for {@link BaseJpaService} calls made on behalf of asynchronous endpoints.
+ * <p>
+ * It has as many threads as the connection pool has connections, so every running task can
+ * hold a connection and none waits inside Hikari. At most
+ * {@code clean.db.executor.queue-capacity} further tasks wait in line; beyond that
+ * {@link #execute(Runnable)} throws {@link RejectedExecutionException} at once, which callers
+ * answer with 503 instead of parking the request until a connection frees up.
+ * </p>
+ */
+@Slf4j
+@Component
+public class DatabaseExecutor implements Executor, DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final LongAdder rejected = new LongAdder();
+
+    public DatabaseExecutor(
+            @Value("${clean.db.executor.threads:${spring.datasource.hikari.maximum-pool-size:10}}") int threads,
+            @Value("${clean.db.executor.queue-capacity:100}") int queueCapacity) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "db-executor-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, (runnable, pool) -> {
+                    rejected.increment();
+                    throw new RejectedExecutionException("Database executor saturated: " + pool.getActiveCount()
+                            + " running, " + pool.getQueue().size() + " queued");
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+        log.info("DatabaseExecutor initialized: threads={}, queueCapacity={}", threads, queueCapacity);
+    }
+
+    /**
+     * Runs {@code task} on the pool.
+     *
+     * @throws RejectedExecutionException if all threads are busy and the queue is full
+     */
+    @Override
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    public Stats stats() {
+        return new Stats(executor.getMaximumPoolSize(), executor.getActiveCount(), executor.getQueue().size(),
+                executor.getQueue().size() + executor.getQueue().remainingCapacity(),
+                executor.getCompletedTaskCount(), rejected.sum());
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Point-in-time state of the pool.
+     *
+     * @param threads       maximum number of threads
+     * @param active        threads running a task
+     * @param queued        tasks waiting for a thread
+     * @param queueCapacity maximum number of waiting tasks
+     * @param completed     tasks finished since startup
+     * @param rejected      tasks turned away since startup because the queue was full
+     */
+    public record Stats(int threads, int active, int queued, int queueCapacity, long completed, long rejected) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.clean.common.client;
+
+/**
+ * A property whose value changed between two {@link ConfigClientSnapshot}s.
+ *
+ * @param propKey  the property key
+ * @param oldValue previous raw value, null if the key was added
+ * @param newValue new raw value, null if the key was removed
+ */
+public record ConfigChange(String propKey, String oldValue, String newValue) {
+}
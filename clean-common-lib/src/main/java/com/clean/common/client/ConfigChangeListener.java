@@ -0,0 +1,13 @@
+package com.clean.common.client;
+
+import java.util.List;
+
+/**
+ * Notified by {@link ConfigClient} after a sync swapped in a snapshot with changed values.
+ * Called on the client's sync thread; implementations should return quickly.
+ */
+@FunctionalInterface
+public interface ConfigChangeListener {
+
+    void onChange(ConfigClientSnapshot snapshot, List<ConfigChange> changes);
+}
@@ -0,0 +1,352 @@
+package com.clean.common.client;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.clean.common.base.dto.OBChangeSetDTO;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * In-process configuration client for services consuming backoffice-api.
+ * <p>
+ * Reads are lookups in an immutable {@link ConfigClientSnapshot} and never touch the network.
+ * A background thread keeps the snapshot current:
+ * <ul>
+ * <li>on {@link #start()}, the last snapshot is loaded from the cache file, so startup does
+ * not wait for backoffice-api;</li>
+ * <li>a delta sync fetches only rows updated since the snapshot watermark;</li>
+ * <li>a full sync on a long interval replaces everything, which is how deleted keys disappear.</li>
+ * </ul>
+ * After each sync that changed something, the cache file is rewritten and listeners are called.
+ * When backoffice-api is unreachable the current snapshot keeps being served.
+ * </p>
+ */
+@Slf4j
+public class ConfigClient implements AutoCloseable {
+
+    private final ConfigSource source;
+    private final ConfigClientCacheFile cacheFile;
+    private final JsonMapper jsonMapper;
+    private final Duration deltaInterval;
+    private final Duration fullInterval;
+
+    private final List<ConfigChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private final CountDownLatch initialSync = new CountDownLatch(1);
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "config-client-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Not synchronized: a sync waits on HTTP and must not pin the carrier of a calling virtual thread
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    private volatile ConfigClientSnapshot snapshot = ConfigClientSnapshot.empty();
+    private volatile boolean lastSyncFailed;
+
+    /**
+     * @param source        where configuration is fetched from
+     * @param cacheFile     local warm-start file, or null to start empty
+     * @param jsonMapper    used to decode "json" values
+     * @param deltaInterval delay between delta syncs
+     * @param fullInterval  delay between full syncs
+     */
+    public ConfigClient(ConfigSource source, ConfigClientCacheFile cacheFile, JsonMapper jsonMapper,
+            Duration deltaInterval, Duration fullInterval) {
+        this.source = source;
+        this.cacheFile = cacheFile;
+        this.jsonMapper = jsonMapper;
+        this.deltaInterval = deltaInterval;
+        this.fullInterval = fullInterval;
+    }
+
+    /**
+     * Loads the cache file and schedules syncing. Returns without any network call.
+     */
+    public void start() {
+        if (cacheFile != null) {
+            cacheFile.load().ifPresent(loaded -> snapshot = loaded);
+        }
+
+        scheduler.scheduleWithFixedDelay(this::syncDeltaQuietly, 0, deltaInterval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::syncFullQuietly, fullInterval.toMillis(), fullInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        log.info("ConfigClient started with {} cached properties (delta every {}, full every {})",
+                snapshot.size(), deltaInterval, fullInterval);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Waits until the first sync with backoffice-api succeeded. Optional: reads work before
+     * that, serving the cached or empty snapshot.
+     *
+     * @return true if synced within the timeout
+     */
+    public boolean awaitInitialSync(Duration timeout) throws InterruptedException {
+        return initialSync.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public ConfigClientSnapshot snapshot() {
+        return snapshot;
+    }
+
+    public Optional<String> getString(String propKey) {
+        return snapshot.find(propKey).map(ConfigClientEntry::value);
+    }
+
+    public String getString(String propKey, String defaultValue) {
+        return getString(propKey).orElse(defaultValue);
+    }
+
+    public long getLong(String propKey, long defaultValue) {
+        ConfigClientSnapshot current = snapshot;
+        if (current.decodedValue(propKey) instanceof Long value) {
+            return value;
+        }
+        String raw = current.find(propKey).map(ConfigClientEntry::value).orElse(null);
+        if (raw == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(raw.trim());
+        } catch (NumberFormatException e) {
+            log.debug("Value of '{}' is not a number, using default {}", propKey, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    public int getInt(String propKey, int defaultValue) {
+        long value = getLong(propKey, defaultValue);
+        return value == (int) value ? (int) value : defaultValue;
+    }
+
+    public boolean getBoolean(String propKey, boolean defaultValue) {
+        ConfigClientSnapshot current = snapshot;
+        if (current.decodedValue(propKey) instanceof Boolean value) {
+            return value;
+        }
+        String raw = current.find(propKey).map(ConfigClientEntry::value).map(String::trim).orElse(null);
+        if ("true".equalsIgnoreCase(raw)) {
+            return true;
+        }
+        if ("false".equalsIgnoreCase(raw)) {
+            return false;
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Returns the value parsed as JSON. Values declared "json" are parsed once per sync.
+     */
+    public Optional<JsonNode> getJson(String propKey) {
+        ConfigClientSnapshot current = snapshot;
+        if (current.decodedValue(propKey) instanceof JsonNode node) {
+            return Optional.of(node);
+        }
+        return current.find(propKey)
+                .map(ConfigClientEntry::value)
+                .map(raw -> {
+                    try {
+                        return jsonMapper.readTree(raw);
+                    } catch (RuntimeException e) {
+                        log.debug("Value of '{}' is not valid JSON: {}", propKey, e.getMessage());
+                        return null;
+                    }
+                });
+    }
+
+    public void addListener(ConfigChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Registers a listener called only when {@code propKey} changed.
+     */
+    public void addListener(String propKey, ConfigChangeListener listener) {
+        listeners.add((changed, changes) -> {
+            List<ConfigChange> matching = changes.stream()
+                    .filter(change -> propKey.equals(change.propKey()))
+                    .toList();
+            if (!matching.isEmpty()) {
+                listener.onChange(changed, matching);
+            }
+        });
+    }
+
+    /**
+     * Applies rows changed since the current watermark. Falls back to a full sync when the
+     * snapshot has never been synced.
+     */
+    public void syncDelta() throws Exception {
+        syncLock.lock();
+        try {
+            applyDelta();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the snapshot with every row, dropping keys deleted on the server.
+     */
+    public void syncFull() throws Exception {
+        syncLock.lock();
+        try {
+            applyFull();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void applyDelta() throws Exception {
+        ConfigClientSnapshot current = snapshot;
+        if (current.getWatermark() == null) {
+            applyFull();
+            return;
+        }
+
+        OBChangeSetDTO<ConfigClientEntry> changes = source.fetchChangedSince(current.getWatermark());
+        markSynced();
+
+        Map<String, ConfigClientEntry> merged = null;
+        List<ConfigChange> applied = new ArrayList<>();
+        for (ConfigClientEntry entry : changes.getDataList()) {
+            ConfigClientEntry previous = current.find(entry.propKey()).orElse(null);
+            // The inclusive watermark returns rows already applied; skip them unchanged
+            if (entry.equals(previous)) {
+                continue;
+            }
+
+            if (merged == null) {
+                merged = new HashMap<>(current.asMap());
+            }
+            String previousKey = current.keyOf(entry.id());
+            if (previousKey != null && !previousKey.equals(entry.propKey())) {
+                ConfigClientEntry renamed = merged.remove(previousKey);
+                applied.add(new ConfigChange(previousKey, renamed != null ? renamed.value() : null, null));
+            }
+            merged.put(entry.propKey(), entry);
+            if (previous == null || !Objects.equals(previous.value(), entry.value())) {
+                applied.add(new ConfigChange(entry.propKey(), previous != null ? previous.value() : null, entry.value()));
+            }
+        }
+
+        if (merged != null) {
+            swap(merged, max(current.getWatermark(), changes.getWatermark()), applied);
+        }
+    }
+
+    private void applyFull() throws Exception {
+        ConfigClientSnapshot current = snapshot;
+        OBChangeSetDTO<ConfigClientEntry> all = source.fetchChangedSince(null);
+        markSynced();
+
+        Map<String, ConfigClientEntry> entries = new HashMap<>(all.getDataList().size() * 2);
+        List<ConfigChange> applied = new ArrayList<>();
+        boolean modified = false;
+        for (ConfigClientEntry entry : all.getDataList()) {
+            entries.put(entry.propKey(), entry);
+            ConfigClientEntry previous = current.find(entry.propKey()).orElse(null);
+            modified |= !entry.equals(previous);
+            if (previous == null || !Objects.equals(previous.value(), entry.value())) {
+                applied.add(new ConfigChange(entry.propKey(), previous != null ? previous.value() : null, entry.value()));
+            }
+        }
+        for (ConfigClientEntry previous : current.entries()) {
+            if (!entries.containsKey(previous.propKey())) {
+                modified = true;
+                applied.add(new ConfigChange(previous.propKey(), previous.value(), null));
+            }
+        }
+
+        if (modified || current.getWatermark() == null) {
+            swap(entries, all.getWatermark(), applied);
+        }
+    }
+
+    private void swap(Map<String, ConfigClientEntry> entries, LocalDateTime watermark, List<ConfigChange> changes) {
+        ConfigClientSnapshot refreshed = ConfigClientSnapshot.of(entries, watermark, jsonMapper);
+        snapshot = refreshed;
+        log.info("Config snapshot updated: {} properties, {} changed values (watermark {})",
+                refreshed.size(), changes.size(), watermark);
+
+        if (cacheFile != null) {
+            cacheFile.save(refreshed);
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        List<ConfigChange> published = List.copyOf(changes);
+        for (ConfigChangeListener listener : listeners) {
+            try {
+                listener.onChange(refreshed, published);
+            } catch (RuntimeException e) {
+                log.error("Config change listener failed", e);
+            }
+        }
+    }
+
+    private void markSynced() {
+        initialSync.countDown();
+        if (lastSyncFailed) {
+            lastSyncFailed = false;
+            log.info("Config sync with backoffice-api recovered");
+        }
+    }
+
+    private void syncDeltaQuietly() {
+        try {
+            syncDelta();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            syncFailed(e);
+        }
+    }
+
+    private void syncFullQuietly() {
+        try {
+            syncFull();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            syncFailed(e);
+        }
+    }
+
+    private void syncFailed(Exception e) {
+        // Log the first failure of a streak only; polling continues at the normal interval
+        if (!lastSyncFailed) {
+            lastSyncFailed = true;
+            log.warn("Config sync with backoffice-api failed, serving snapshot with watermark {}: {}",
+                    snapshot.getWatermark(), e.getMessage());
+        }
+    }
+
+    private static LocalDateTime max(LocalDateTime current, LocalDateTime candidate) {
+        if (candidate == null) {
+            return current;
+        }
+        return current == null || candidate.isAfter(current) ? candidate : current;
+    }
+}
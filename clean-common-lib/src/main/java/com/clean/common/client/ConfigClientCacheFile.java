@@ -0,0 +1,96 @@
+package com.clean.common.client;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Local JSON copy of the last synced snapshot, so a service can start with its previous
+ * configuration while backoffice-api is slow or down.
+ * <p>
+ * Written to a temporary file and moved into place, so a crash never leaves a truncated file.
+ * A file of another environment is ignored.
+ * </p>
+ */
+@Slf4j
+public class ConfigClientCacheFile {
+
+    private final Path path;
+    private final String environment;
+    private final JsonMapper jsonMapper;
+
+    public ConfigClientCacheFile(Path path, String environment, JsonMapper jsonMapper) {
+        this.path = path;
+        this.environment = environment;
+        this.jsonMapper = jsonMapper;
+    }
+
+    public Optional<ConfigClientSnapshot> load() {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+
+        try {
+            Persisted persisted = jsonMapper.readValue(path.toFile(), Persisted.class);
+            if (persisted == null || !environment.equalsIgnoreCase(persisted.environment())) {
+                log.warn("Ignoring config cache file {}: written for environment {}", path,
+                        persisted != null ? persisted.environment() : null);
+                return Optional.empty();
+            }
+
+            Map<String, ConfigClientEntry> entries = new HashMap<>();
+            for (ConfigClientEntry entry : persisted.entries()) {
+                entries.put(entry.propKey(), entry);
+            }
+            log.info("Loaded {} config properties from cache file {} (watermark {})",
+                    entries.size(), path, persisted.watermark());
+            return Optional.of(ConfigClientSnapshot.of(entries, persisted.watermark(), jsonMapper));
+
+        } catch (RuntimeException e) {
+            log.warn("Ignoring unreadable config cache file {}: {}", path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void save(ConfigClientSnapshot snapshot) {
+        Persisted persisted = new Persisted(environment, snapshot.getWatermark(), List.copyOf(snapshot.entries()));
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+            try {
+                jsonMapper.writeValue(temp.toFile(), persisted);
+                move(temp);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not write config cache file {}: {}", path, e.getMessage());
+        }
+    }
+
+    private void move(Path temp) throws IOException {
+        try {
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    record Persisted(String environment, LocalDateTime watermark, List<ConfigClientEntry> entries) {
+
+        Persisted {
+            entries = entries == null ? List.of() : entries;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.clean.common.client;
+
+import java.time.LocalDateTime;
+
+/**
+ * One configuration property as seen by {@link ConfigClient}: the value of the client's
+ * environment only.
+ *
+ * @param id        row id in TBL_CLEAN_CONFIG, used to detect renamed keys
+ * @param propKey   the property key
+ * @param value     raw value for the client's environment, may be null
+ * @param dataType  declared data type ("string", "int", "boolean", "json")
+ * @param category  the category
+ * @param updatedOn last update timestamp of the row
+ */
+public record ConfigClientEntry(
+        Long id,
+        String propKey,
+        String value,
+        String dataType,
+        String category,
+        LocalDateTime updatedOn) {
+}
@@ -0,0 +1,121 @@
+package com.clean.common.client;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Immutable copy of the configuration of one environment, keyed by {@code propKey}.
+ * <p>
+ * Values are decoded once when the snapshot is built (int to Long, boolean to Boolean,
+ * json to JsonNode), so typed reads are plain map lookups.
+ * </p>
+ */
+@Slf4j
+public final class ConfigClientSnapshot {
+
+    private static final ConfigClientSnapshot EMPTY = new ConfigClientSnapshot(Map.of(), Map.of(), null);
+
+    private final Map<String, ConfigClientEntry> entries;
+    private final Map<String, Object> decodedValues;
+    private final Map<Long, String> keysById;
+    private final LocalDateTime watermark;
+
+    private ConfigClientSnapshot(Map<String, ConfigClientEntry> entries, Map<String, Object> decodedValues,
+            LocalDateTime watermark) {
+        this.entries = Map.copyOf(entries);
+        this.decodedValues = Map.copyOf(decodedValues);
+        this.keysById = indexById(this.entries);
+        this.watermark = watermark;
+    }
+
+    public static ConfigClientSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds a snapshot, decoding every value according to its data type.
+     */
+    static ConfigClientSnapshot of(Map<String, ConfigClientEntry> entries, LocalDateTime watermark,
+            JsonMapper jsonMapper) {
+        Map<String, Object> decoded = new HashMap<>(entries.size() * 2);
+        for (ConfigClientEntry entry : entries.values()) {
+            Object value = decode(entry, jsonMapper);
+            if (value != null) {
+                decoded.put(entry.propKey(), value);
+            }
+        }
+        return new ConfigClientSnapshot(entries, decoded, watermark);
+    }
+
+    public Optional<ConfigClientEntry> find(String propKey) {
+        return propKey == null ? Optional.empty() : Optional.ofNullable(entries.get(propKey));
+    }
+
+    /**
+     * Returns the decoded value, or null if the key is unknown or has no value.
+     */
+    public Object decodedValue(String propKey) {
+        return propKey == null ? null : decodedValues.get(propKey);
+    }
+
+    String keyOf(Long id) {
+        return id == null ? null : keysById.get(id);
+    }
+
+    public Collection<ConfigClientEntry> entries() {
+        return entries.values();
+    }
+
+    Map<String, ConfigClientEntry> asMap() {
+        return entries;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Highest {@code updated_on} contained in this snapshot, or null when never synced.
+     */
+    public LocalDateTime getWatermark() {
+        return watermark;
+    }
+
+    private static Object decode(ConfigClientEntry entry, JsonMapper jsonMapper) {
+        String raw = entry.value();
+        if (raw == null) {
+            return null;
+        }
+
+        String type = entry.dataType() == null ? "string" : entry.dataType().trim().toLowerCase(Locale.ROOT);
+        try {
+            return switch (type) {
+                case "int", "integer", "long" -> Long.valueOf(raw.trim());
+                case "boolean" -> "true".equalsIgnoreCase(raw.trim()) ? Boolean.TRUE
+                        : "false".equalsIgnoreCase(raw.trim()) ? Boolean.FALSE : raw;
+                case "json" -> jsonMapper.readTree(raw);
+                default -> raw;
+            };
+        } catch (RuntimeException e) {
+            log.warn("Value of '{}' is not a valid {}, serving it as string: {}", entry.propKey(), type, e.getMessage());
+            return raw;
+        }
+    }
+
+    private static Map<Long, String> indexById(Map<String, ConfigClientEntry> entries) {
+        Map<Long, String> index = new HashMap<>(entries.size() * 2);
+        for (ConfigClientEntry entry : entries.values()) {
+            if (entry.id() != null) {
+                index.put(entry.id(), entry.propKey());
+            }
+        }
+        return Map.copyOf(index);
+    }
+}
@@ -0,0 +1,19 @@
+package com.clean.common.client;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+import com.clean.common.base.dto.OBChangeSetDTO;
+
+/**
+ * Where {@link ConfigClient} fetches configuration from.
+ */
+public interface ConfigSource {
+
+    /**
+     * Returns the entries changed at or after {@code since}, or every entry when null.
+     *
+     * @throws IOException if the source cannot be reached or answers with an error
+     */
+    OBChangeSetDTO<ConfigClientEntry> fetchChangedSince(LocalDateTime since) throws IOException, InterruptedException;
+}
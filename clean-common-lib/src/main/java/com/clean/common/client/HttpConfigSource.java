@@ -0,0 +1,152 @@
+package com.clean.common.client;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+import com.clean.common.base.dto.OBBaseResponseDTO;
+import com.clean.common.base.dto.OBChangeSetDTO;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * {@link ConfigSource} reading {@code GET /api/v1/config/changedSince} of backoffice-api with
+ * the JDK HTTP client, keeping only the value column of one environment.
+ * <p>
+ * Responses are requested as JSON unless constructed with a binary format such as CBOR,
+ * which backoffice-api negotiates on the {@code Accept} header.
+ * </p>
+ */
+public class HttpConfigSource implements ConfigSource {
+
+    private static final String CHANGED_SINCE_PATH = "/api/v1/config/changedSince";
+    private static final TypeReference<OBBaseResponseDTO<OBChangeSetDTO<RemoteConfig>>> RESPONSE_TYPE =
+            new TypeReference<>() {
+            };
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final Duration requestTimeout;
+    private final ObjectMapper wireMapper;
+    private final String mediaType;
+    private final Function<RemoteConfig, String> valueGetter;
+
+    /**
+     * @param baseUrl        backoffice-api base URL including the context path,
+     *                       e.g. {@code http://backoffice:8081/backoffice}
+     * @param environment    DEV, SIT, UAT, PROD or DR
+     * @param requestTimeout connect and request timeout
+     */
+    public HttpConfigSource(String baseUrl, String environment, Duration requestTimeout, JsonMapper jsonMapper) {
+        this(baseUrl, environment, requestTimeout, jsonMapper, "application/json");
+    }
+
+    /**
+     * @param wireMapper mapper of the wire format, e.g. a {@code CBORMapper}
+     * @param mediaType  media type requested in {@code Accept}, matching {@code wireMapper}
+     */
+    public HttpConfigSource(String baseUrl, String environment, Duration requestTimeout, ObjectMapper wireMapper,
+            String mediaType) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.requestTimeout = requestTimeout;
+        this.wireMapper = wireMapper;
+        this.mediaType = mediaType;
+        this.valueGetter = valueGetter(environment);
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(requestTimeout)
+                .build();
+    }
+
+    @Override
+    public OBChangeSetDTO<ConfigClientEntry> fetchChangedSince(LocalDateTime since)
+            throws IOException, InterruptedException {
+
+        String uri = baseUrl + CHANGED_SINCE_PATH
+                + (since != null ? "?since=" + URLEncoder.encode(since.toString(), StandardCharsets.UTF_8) : "");
+        HttpRequest request = HttpRequest.newBuilder(URI.create(uri))
+                .timeout(requestTimeout)
+                .header("Accept", mediaType)
+                .GET()
+                .build();
+
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IOException("GET " + uri + " returned HTTP " + response.statusCode());
+        }
+
+        OBBaseResponseDTO<OBChangeSetDTO<RemoteConfig>> envelope;
+        try {
+            envelope = wireMapper.readValue(response.body(), RESPONSE_TYPE);
+        } catch (RuntimeException e) {
+            throw new IOException("Unreadable response from " + uri, e);
+        }
+        if (envelope == null || !Boolean.TRUE.equals(envelope.getSuccess()) || envelope.getReqData() == null) {
+            throw new IOException("GET " + uri + " failed: " + (envelope != null ? envelope.getMessage() : "empty body"));
+        }
+
+        OBChangeSetDTO<RemoteConfig> changes = envelope.getReqData();
+        List<ConfigClientEntry> entries = new ArrayList<>(changes.getDataList().size());
+        for (RemoteConfig config : changes.getDataList()) {
+            entries.add(new ConfigClientEntry(
+                    config.getId(),
+                    config.getPropKey(),
+                    valueGetter.apply(config),
+                    config.getDataType(),
+                    config.getCategory(),
+                    config.getUpdatedOn()));
+        }
+
+        return OBChangeSetDTO.<ConfigClientEntry>builder()
+                .since(changes.getSince())
+                .watermark(changes.getWatermark())
+                .dataList(entries)
+                .build();
+    }
+
+    private static Function<RemoteConfig, String> valueGetter(String environment) {
+        String name = environment == null ? "" : environment.trim().toUpperCase(Locale.ROOT);
+        return switch (name) {
+            case "DEV" -> RemoteConfig::getDevValue;
+            case "SIT" -> RemoteConfig::getSitValue;
+            case "UAT" -> RemoteConfig::getUatValue;
+            case "PROD" -> RemoteConfig::getProdValue;
+            case "DR" -> RemoteConfig::getDrValue;
+            default -> throw new IllegalArgumentException("Unknown environment: " + environment);
+        };
+    }
+
+    /**
+     * The fields of backoffice-api's OBConfigDTO this client reads.
+     */
+    @Getter
+    @Setter
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class RemoteConfig {
+
+        private Long id;
+        private String propKey;
+        private String devValue;
+        private String sitValue;
+        private String uatValue;
+        private String prodValue;
+        private String drValue;
+        private String category;
+        private String dataType;
+        private LocalDateTime updatedOn;
+    }
+}
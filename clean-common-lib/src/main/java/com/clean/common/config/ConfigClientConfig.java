@@ -0,0 +1,55 @@
+package com.clean.common.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+
+import com.clean.common.client.ConfigClient;
+import com.clean.common.client.ConfigClientCacheFile;
+import com.clean.common.client.HttpConfigSource;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+/**
+ * Wires {@link ConfigClient} from {@code clean.config.client.*} properties.
+ * Imported through {@link EnableConfigClient}; not component-scanned.
+ * <p>
+ * Required: {@code base-url} (backoffice-api including its context path) and
+ * {@code environment}. Set {@code cache-file} to warm-start from the last synced values, and
+ * {@code wire-format=cbor} to fetch changes as CBOR instead of JSON.
+ * </p>
+ */
+@Slf4j
+public class ConfigClientConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public ConfigClient configClient(
+            @Value("${clean.config.client.base-url}") String baseUrl,
+            @Value("${clean.config.client.environment}") String environment,
+            @Value("${clean.config.client.cache-file:}") String cacheFile,
+            @Value("${clean.config.client.request-timeout-ms:2000}") long requestTimeoutMs,
+            @Value("${clean.config.client.delta-interval-ms:5000}") long deltaIntervalMs,
+            @Value("${clean.config.client.full-interval-ms:600000}") long fullIntervalMs,
+            @Value("${clean.config.client.wire-format:json}") String wireFormat) {
+
+        JsonMapper jsonMapper = JsonMapper.builder().build();
+        HttpConfigSource source = switch (wireFormat.trim().toLowerCase(Locale.ROOT)) {
+            case "json" -> new HttpConfigSource(baseUrl, environment, Duration.ofMillis(requestTimeoutMs), jsonMapper);
+            case "cbor" -> new HttpConfigSource(baseUrl, environment, Duration.ofMillis(requestTimeoutMs),
+                    CBORMapper.builder().build(), "application/cbor");
+            default -> throw new IllegalArgumentException("Unknown clean.config.client.wire-format: " + wireFormat);
+        };
+        ConfigClientCacheFile file = cacheFile.isBlank() ? null
+                : new ConfigClientCacheFile(Path.of(cacheFile), environment, jsonMapper);
+
+        log.info("ConfigClient configured for {} at {} over {} (cache file: {})", environment, baseUrl,
+                wireFormat, file != null ? cacheFile : "none");
+        return new ConfigClient(source, file, jsonMapper,
+                Duration.ofMillis(deltaIntervalMs), Duration.ofMillis(fullIntervalMs));
+    }
+}
@@ -0,0 +1,63 @@
+package com.clean.common.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+
+import com.clean.common.base.resilience.AdaptiveConcurrencyLimiter;
+import com.clean.common.base.resilience.ConcurrencyLimitedDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Puts an {@link AdaptiveConcurrencyLimiter} in front of the application's {@link DataSource}.
+ * Imported through {@link EnableDatabaseConcurrencyLimit}; not component-scanned.
+ * <p>
+ * The limit starts at, and never exceeds, {@code clean.db.limiter.max-limit}, which defaults to
+ * the Hikari pool size: more concurrent borrowers than connections can only queue inside the
+ * pool. Under load the limit follows connection hold times down to
+ * {@code clean.db.limiter.min-limit}, and callers above it wait at most
+ * {@code clean.db.limiter.max-wait-ms} before being shed.
+ * </p>
+ */
+@Slf4j
+public class DatabaseConcurrencyLimitConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter databaseConcurrencyLimiter(
+            @Value("${clean.db.limiter.min-limit:2}") int minLimit,
+            @Value("${clean.db.limiter.max-limit:${spring.datasource.hikari.maximum-pool-size:10}}") int maxLimit,
+            @Value("${clean.db.limiter.max-queue:50}") int maxQueue,
+            @Value("${clean.db.limiter.max-wait-ms:100}") long maxWaitMs,
+            @Value("${clean.db.limiter.window-size:50}") int windowSize,
+            @Value("${clean.db.limiter.tolerance:1.5}") double tolerance,
+            @Value("${clean.db.limiter.smoothing:0.2}") double smoothing) {
+
+        log.info("Database concurrency limiter initialized: limit {}..{}, maxQueue={}, maxWait={}ms, window={}",
+                minLimit, maxLimit, maxQueue, maxWaitMs, windowSize);
+        return new AdaptiveConcurrencyLimiter(minLimit, maxLimit, maxQueue, maxWaitMs, windowSize, tolerance,
+                smoothing);
+    }
+
+    /**
+     * Wraps every {@link DataSource} bean once it is initialized, so the entity manager factory
+     * and all JDBC templates borrow connections through the limiter.
+     */
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(
+            ObjectProvider<AdaptiveConcurrencyLimiter> limiter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitedDataSource)) {
+                    log.debug("Limiting concurrency of data source '{}'", beanName);
+                    return new ConcurrencyLimitedDataSource(dataSource, limiter.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
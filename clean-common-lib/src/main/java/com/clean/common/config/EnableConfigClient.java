@@ -0,0 +1,22 @@
+package com.clean.common.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Import;
+
+/**
+ * Registers a {@link com.clean.common.client.ConfigClient} synced with backoffice-api.
+ * Place on any {@code @Configuration} class of the consuming service.
+ *
+ * @see ConfigClientConfig
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Import(ConfigClientConfig.class)
+public @interface EnableConfigClient {
+}
@@ -0,0 +1,23 @@
+package com.clean.common.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Import;
+
+/**
+ * Limits concurrent database work with an adaptive, latency-driven limit and sheds the excess
+ * instead of letting it queue in the connection pool. Place on any {@code @Configuration} class
+ * of the consuming service.
+ *
+ * @see DatabaseConcurrencyLimitConfig
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Import(DatabaseConcurrencyLimitConfig.class)
+public @interface EnableDatabaseConcurrencyLimit {
+}
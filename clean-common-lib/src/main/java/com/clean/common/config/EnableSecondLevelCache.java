@@ -0,0 +1,22 @@
+package com.clean.common.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Import;
+
+/**
+ * Enables the Hibernate second-level cache backed by a bounded, in-process JCache provider.
+ * Place on any {@code @Configuration} class of the consuming service.
+ *
+ * @see SecondLevelCacheConfig
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Import(SecondLevelCacheConfig.class)
+public @interface EnableSecondLevelCache {
+}
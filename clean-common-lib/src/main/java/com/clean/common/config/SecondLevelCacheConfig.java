@@ -0,0 +1,116 @@
+package com.clean.common.config;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reusable Hibernate second-level cache setup backed by Caffeine's JCache provider.
+ * Imported through {@link EnableSecondLevelCache}; not component-scanned.
+ * <p>
+ * Every region listed in {@code clean.cache.l2.regions} is created up front with a maximum
+ * entry count and a TTL. Hibernate is configured with {@code missing_cache_strategy=fail},
+ * so an entity pointing at an undeclared region fails fast instead of silently getting an
+ * unbounded cache.
+ * </p>
+ * <p>
+ * Entities opt in with {@code @Cacheable} plus Hibernate's {@code @Cache(region = ...)}
+ * (and {@code @NaturalIdCache(region = ...)} for natural-id lookups).
+ * </p>
+ */
+@Slf4j
+public class SecondLevelCacheConfig {
+
+    private static final String CACHE_MANAGER = "hibernate.javax.cache.cache_manager";
+    private static final String MISSING_CACHE_STRATEGY = "hibernate.javax.cache.missing_cache_strategy";
+
+    // Created unconditionally so enabling the query cache later cannot trip the "fail" strategy
+    private static final Set<String> DEFAULT_REGIONS = Set.of(
+            "default-update-timestamps-region",
+            "default-query-results-region");
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(
+            @Value("${clean.cache.l2.regions:}") String[] regions,
+            @Value("${clean.cache.l2.max-entries:10000}") long maxEntries,
+            @Value("${clean.cache.l2.ttl-seconds:600}") long ttlSeconds) {
+
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                provider.getDefaultURI(), SecondLevelCacheConfig.class.getClassLoader());
+
+        Set<String> regionNames = new LinkedHashSet<>(DEFAULT_REGIONS);
+        for (String region : regions) {
+            if (region != null && !region.isBlank()) {
+                regionNames.add(region.trim());
+            }
+        }
+
+        for (String regionName : regionNames) {
+            if (cacheManager.getCache(regionName) != null) {
+                continue;
+            }
+
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maxEntries));
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(regionName, configuration);
+            log.debug("Created second-level cache region '{}'", regionName);
+        }
+
+        log.info("Second-level cache initialized with {} regions (maxEntries={}, ttl={}s)",
+                regionNames.size(), maxEntries, ttlSeconds);
+        return cacheManager;
+    }
+
+    /**
+     * Hands the bounded {@link CacheManager} instance to Hibernate. Object-valued settings
+     * cannot be expressed in {@code application.properties}, so they are added to the JPA
+     * property map right before the entity manager factory is built.
+     */
+    @Bean
+    public static BeanPostProcessor secondLevelCacheJpaPropertiesPostProcessor(ObjectProvider<CacheManager> cacheManager) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof LocalContainerEntityManagerFactoryBean factoryBean) {
+                    Map<String, Object> properties = factoryBean.getJpaPropertyMap();
+                    properties.put("hibernate.cache.use_second_level_cache", "true");
+                    properties.put("hibernate.cache.region.factory_class", "jcache");
+                    properties.put(CACHE_MANAGER, cacheManager.getObject());
+                    properties.put(MISSING_CACHE_STRATEGY, "fail");
+                    properties.putIfAbsent("jakarta.persistence.sharedCache.mode", "ENABLE_SELECTIVE");
+                    log.debug("Applied second-level cache settings to entity manager factory '{}'", beanName);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public SecondLevelCacheStatistics secondLevelCacheStatistics(
+            EntityManagerFactory entityManagerFactory,
+            @Value("${clean.cache.l2.regions:}") String[] regions) {
+
+        return new SecondLevelCacheStatistics(entityManagerFactory, regions);
+    }
+}
@@ -0,0 +1,81 @@
+package com.clean.common.config;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads second-level and natural-id cache counters from Hibernate {@link Statistics}.
+ * Counters stay at zero unless {@code hibernate.generate_statistics=true}.
+ */
+@Slf4j
+public class SecondLevelCacheStatistics {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final List<String> regions;
+
+    public SecondLevelCacheStatistics(EntityManagerFactory entityManagerFactory, String[] regions) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.regions = Arrays.stream(regions)
+                .filter(region -> region != null && !region.isBlank())
+                .map(String::trim)
+                .toList();
+    }
+
+    public Snapshot snapshot() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Map<String, RegionSnapshot> regionSnapshots = new LinkedHashMap<>();
+        for (String region : regions) {
+            try {
+                CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+                if (regionStatistics != null) {
+                    regionSnapshots.put(region, new RegionSnapshot(
+                            regionStatistics.getHitCount(),
+                            regionStatistics.getMissCount(),
+                            regionStatistics.getPutCount(),
+                            regionStatistics.getElementCountInMemory()));
+                }
+            } catch (IllegalArgumentException e) {
+                // Region declared in properties but not used by any entity
+                log.debug("No statistics for second-level cache region '{}': {}", region, e.getMessage());
+            }
+        }
+
+        return new Snapshot(
+                statistics.isStatisticsEnabled(),
+                statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(),
+                statistics.getSecondLevelCachePutCount(),
+                statistics.getNaturalIdCacheHitCount(),
+                statistics.getNaturalIdCacheMissCount(),
+                statistics.getNaturalIdCachePutCount(),
+                regionSnapshots);
+    }
+
+    public record Snapshot(
+            boolean statisticsEnabled,
+            long hitCount,
+            long missCount,
+            long putCount,
+            long naturalIdHitCount,
+            long naturalIdMissCount,
+            long naturalIdPutCount,
+            Map<String, RegionSnapshot> regions) {
+    }
+
+    public record RegionSnapshot(
+            long hitCount,
+            long missCount,
+            long putCount,
+            long elementCountInMemory) {
+    }
+}
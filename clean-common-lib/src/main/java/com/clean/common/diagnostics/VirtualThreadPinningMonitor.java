@@ -0,0 +1,134 @@
+package com.clean.common.diagnostics;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reports virtual threads that stay pinned to their carrier, e.g. while blocking inside a
+ * {@code synchronized} block of a JDBC driver or logging appender.
+ * <p>
+ * Streams the JFR {@code jdk.VirtualThreadPinned} event in-process, so no recording or JVM
+ * flag is needed. Each pinning site, the first frame outside the JDK, is logged with its stack
+ * once at WARN and counted afterwards; {@link #stats()} returns the counts. Enabled with
+ * {@code clean.diagnostics.pinning.enabled=true}; only events lasting at least
+ * {@code threshold-ms} are reported.
+ * </p>
+ */
+@Slf4j
+@Component
+public class VirtualThreadPinningMonitor implements InitializingBean, DisposableBean {
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_SITES = 200;
+    private static final int LOGGED_FRAMES = 12;
+
+    private final boolean enabled;
+    private final Duration threshold;
+    private final Map<String, LongAdder> sites = new ConcurrentHashMap<>();
+    private final LongAdder events = new LongAdder();
+    private final LongAdder pinnedNanos = new LongAdder();
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            @Value("${clean.diagnostics.pinning.enabled:false}") boolean enabled,
+            @Value("${clean.diagnostics.pinning.threshold-ms:20}") long thresholdMs) {
+        this.enabled = enabled;
+        this.threshold = Duration.ofMillis(thresholdMs);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("VirtualThreadPinningMonitor started: reporting pinning of {} ms or longer", threshold.toMillis());
+    }
+
+    @Override
+    public void destroy() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    public PinningStats stats() {
+        Map<String, Long> bySite = sites.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> e) -> e.getValue().sum()).reversed())
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().sum(), (a, b) -> a, LinkedHashMap::new));
+        return new PinningStats(enabled, threshold.toMillis(), events.sum(),
+                Duration.ofNanos(pinnedNanos.sum()).toMillis(), bySite);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        events.increment();
+        pinnedNanos.add(event.getDuration().toNanos());
+
+        List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+        String site = site(frames);
+        LongAdder count = sites.get(site);
+        if (count == null) {
+            if (sites.size() >= MAX_SITES) {
+                site = "(other)";
+            }
+            count = sites.computeIfAbsent(site, k -> new LongAdder());
+            if (count.sum() == 0) {
+                log.warn("Virtual thread pinned for {} ms at {}:\n{}", event.getDuration().toMillis(), site,
+                        frames.stream().limit(LOGGED_FRAMES).map(VirtualThreadPinningMonitor::describe)
+                                .collect(Collectors.joining("\n\tat ", "\tat ", "")));
+            }
+        }
+        count.increment();
+        log.debug("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), site);
+    }
+
+    /**
+     * Returns the first frame outside the JDK, which is where the pinning monitor was taken.
+     */
+    private static String site(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return describe(frame);
+            }
+        }
+        return frames.isEmpty() ? "(unknown)" : describe(frames.get(0));
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    /**
+     * Pinning counters since startup.
+     *
+     * @param enabled     whether the monitor is running
+     * @param thresholdMs shortest pinning reported
+     * @param events      pinning events seen
+     * @param pinnedMs    total time carriers were pinned by those events
+     * @param bySite      events per pinning site, most frequent first
+     */
+    public record PinningStats(boolean enabled, long thresholdMs, long events, long pinnedMs,
+            Map<String, Long> bySite) {
+    }
+}
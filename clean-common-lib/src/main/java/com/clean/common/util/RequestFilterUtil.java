@@ -45,6 +45,19 @@ public final class RequestFilterUtil {
         return getFilterCriteria(obj, field -> !exclusions.contains(field.getName()));
     }
 
+    /**
+     * Extracts filter criteria ordered by field name, so two requests with the same
+     * filter values always produce equal maps regardless of declaration order.
+     * Suitable as part of a cache key.
+     *
+     * @param obj the object to extract filters from
+     * @return immutable, key-sorted map of field name to value (only non-null values)
+     */
+    public static Map<String, Object> getCanonicalFilterCriteria(Object obj) {
+        Map<String, Object> criteria = getFilterCriteria(obj);
+        return criteria.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(new TreeMap<>(criteria));
+    }
+
     /**
      * Extracts filter criteria from an object using reflection and a custom field filter.
      *
@@ -0,0 +1,89 @@
+package com.clean.common.web;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import com.clean.common.base.dto.OBBaseResponseDTO;
+
+/**
+ * Writes {@link OBBaseResponseDTO} responses as JSON through {@link EnvelopeWriter}. Write-only:
+ * request bodies are still read by the regular Jackson converter.
+ * <p>
+ * The negotiated content type and its charset are kept; only a wildcard becomes
+ * {@code application/json}, written as UTF-8.
+ * </p>
+ */
+public class EnvelopeHttpMessageConverter implements GenericHttpMessageConverter<Object> {
+
+    private static final List<MediaType> SUPPORTED = List.of(MediaType.APPLICATION_JSON);
+
+    private final EnvelopeWriter envelopeWriter;
+
+    public EnvelopeHttpMessageConverter(EnvelopeWriter envelopeWriter) {
+        this.envelopeWriter = envelopeWriter;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return OBBaseResponseDTO.class.isAssignableFrom(clazz) && isJson(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return canWrite(clazz, mediaType);
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes() {
+        return SUPPORTED;
+    }
+
+    @Override
+    public Object read(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Envelopes are write-only", inputMessage);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Envelopes are write-only", inputMessage);
+    }
+
+    @Override
+    public void write(Object envelope, MediaType contentType, HttpOutputMessage outputMessage) throws IOException {
+        write(envelope, null, contentType, outputMessage);
+    }
+
+    @Override
+    public void write(Object envelope, Type type, MediaType contentType, HttpOutputMessage outputMessage)
+            throws IOException {
+        MediaType mediaType = contentType == null || contentType.isWildcardType() || contentType.isWildcardSubtype()
+                ? MediaType.APPLICATION_JSON
+                : contentType;
+        Charset charset = mediaType.getCharset() != null ? mediaType.getCharset() : StandardCharsets.UTF_8;
+        outputMessage.getHeaders().setContentType(mediaType);
+        envelopeWriter.write((OBBaseResponseDTO<?>) envelope, type, outputMessage.getBody(), charset);
+    }
+
+    private static boolean isJson(MediaType mediaType) {
+        return mediaType == null || mediaType.isWildcardType() || MediaType.APPLICATION_JSON.isCompatibleWith(mediaType);
+    }
+}
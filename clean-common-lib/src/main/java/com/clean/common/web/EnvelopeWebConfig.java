@@ -0,0 +1,26 @@
+package com.clean.common.web;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Puts {@link EnvelopeHttpMessageConverter} ahead of the default converters, so every JSON
+ * {@code OBBaseResponseDTO} response is streamed by {@link EnvelopeWriter}.
+ */
+@Configuration
+public class EnvelopeWebConfig implements WebMvcConfigurer {
+
+    private final EnvelopeWriter envelopeWriter;
+
+    public EnvelopeWebConfig(EnvelopeWriter envelopeWriter) {
+        this.envelopeWriter = envelopeWriter;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new EnvelopeHttpMessageConverter(envelopeWriter));
+    }
+}
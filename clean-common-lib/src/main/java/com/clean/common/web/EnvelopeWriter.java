@@ -0,0 +1,169 @@
+package com.clean.common.web;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import com.clean.common.base.dto.OBBaseResponseDTO;
+import com.clean.common.base.dto.OBPageDTO;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SequenceWriter;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Streams {@link OBBaseResponseDTO} envelopes straight to the output without bean introspection
+ * of the envelope or the page.
+ * <p>
+ * The envelope and {@link OBPageDTO} fields are written by hand in declaration order with the
+ * envelope's {@code NON_NULL} inclusion. The values match what Jackson would produce; only the
+ * property order differs from a mapper sorting properties alphabetically, the Jackson 3 default. The
+ * payload, or each {@code dataList} element of a page, is written with an {@link ObjectWriter}
+ * resolved once per declared response type and reused afterwards. Elements are written through
+ * one {@link SequenceWriter} per page as the list is iterated, so lazily mapped lists are never
+ * copied and the page shares one serialization context. Nothing is flushed before the whole
+ * envelope is written.
+ * </p>
+ */
+@Component
+public class EnvelopeWriter {
+
+    private final JsonMapper jsonMapper;
+    private final ObjectWriter runtimeItemWriter;
+    private final Map<Type, Plan> plans = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectWriter> runtimeWriters = new ConcurrentHashMap<>();
+
+    public EnvelopeWriter(JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+        this.runtimeItemWriter = writer(jsonMapper.writer());
+    }
+
+    /**
+     * Writes the envelope as UTF-8 JSON.
+     *
+     * @see #write(OBBaseResponseDTO, Type, OutputStream, Charset)
+     */
+    public void write(OBBaseResponseDTO<?> envelope, Type declaredType, OutputStream out) {
+        write(envelope, declaredType, out, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the envelope as JSON.
+     *
+     * @param envelope     the response
+     * @param declaredType the declared envelope type, e.g. {@code OBBaseResponseDTO<OBPageDTO<OBConfigDTO>>},
+     *                     or null to resolve payload writers from the runtime classes
+     * @param out          the target stream, flushed but left open
+     * @param charset      the encoding of the output
+     */
+    public void write(OBBaseResponseDTO<?> envelope, Type declaredType, OutputStream out, Charset charset) {
+        Plan plan = declaredType != null ? plans.computeIfAbsent(declaredType, this::plan) : Plan.RUNTIME;
+
+        // Closing the generator flushes it; the caller's stream must stay open for the container
+        OutputStream target = StreamUtils.nonClosing(out);
+        try (JsonGenerator generator = StandardCharsets.UTF_8.equals(charset)
+                ? jsonMapper.createGenerator(target)
+                : jsonMapper.createGenerator(new OutputStreamWriter(target, charset))) {
+            generator.writeStartObject();
+            if (envelope.getId() != null) {
+                generator.writeNumberProperty("id", envelope.getId());
+            }
+            writeString(generator, "clientTraceNo", envelope.getClientTraceNo());
+            writeString(generator, "serverTraceNo", envelope.getServerTraceNo());
+            if (envelope.getSuccess() != null) {
+                generator.writeBooleanProperty("success", envelope.getSuccess());
+            }
+            writeString(generator, "statusDescription", envelope.getStatusDescription());
+            writeString(generator, "statusCode", envelope.getStatusCode());
+            writeString(generator, "message", envelope.getMessage());
+            writeString(generator, "referenceNo", envelope.getReferenceNo());
+            if (envelope.getStale() != null) {
+                generator.writeBooleanProperty("stale", envelope.getStale());
+            }
+
+            Object reqData = envelope.getReqData();
+            if (reqData instanceof OBPageDTO<?> page) {
+                generator.writeName("reqData");
+                writePage(generator, page, plan);
+            } else if (reqData != null) {
+                generator.writeName("reqData");
+                writerFor(plan.reqDataWriter, reqData).writeValue(generator, reqData);
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    private void writePage(JsonGenerator generator, OBPageDTO<?> page, Plan plan) {
+        generator.writeStartObject();
+        generator.writeNumberProperty("totalRecords", page.getTotalRecords());
+        generator.writeNumberProperty("totalPages", page.getTotalPages());
+        generator.writeNumberProperty("currentPage", page.getCurrentPage());
+        generator.writeNumberProperty("pageSize", page.getPageSize());
+        generator.writeName("dataList");
+        if (page.getDataList() == null) {
+            generator.writeNull();
+        } else {
+            // Without a planned type the sequence resolves serializers per runtime class itself
+            ObjectWriter itemWriter = plan.pageItemWriter != null ? plan.pageItemWriter : runtimeItemWriter;
+            try (SequenceWriter items = itemWriter.writeValuesAsArray(generator)) {
+                for (Object item : page.getDataList()) {
+                    items.write(item);
+                }
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private Plan plan(Type declaredType) {
+        JavaType envelopeType = jsonMapper.constructType(declaredType);
+        JavaType reqDataType = envelopeType.containedType(0);
+        if (reqDataType == null || reqDataType.isJavaLangObject()) {
+            return Plan.RUNTIME;
+        }
+        if (reqDataType.hasRawClass(OBPageDTO.class)) {
+            JavaType itemType = reqDataType.containedType(0);
+            boolean concrete = itemType != null && !itemType.isJavaLangObject() && itemType.isConcrete()
+                    && itemType.isFinal();
+            return new Plan(null, concrete ? writer(jsonMapper.writerFor(itemType)) : null);
+        }
+        boolean concrete = reqDataType.isConcrete() && (reqDataType.isFinal() || reqDataType.isContainerType());
+        return new Plan(concrete ? writer(jsonMapper.writerFor(reqDataType)) : null, null);
+    }
+
+    /**
+     * Returns the planned writer, or the runtime class writer when the declared type could be
+     * subclassed and so cannot be trusted to serialize every property of the value.
+     */
+    private ObjectWriter writerFor(ObjectWriter planned, Object value) {
+        if (planned != null) {
+            return planned;
+        }
+        return runtimeWriters.computeIfAbsent(value.getClass(), type -> writer(jsonMapper.writerFor(type)));
+    }
+
+    // The generator is flushed once when the envelope is closed, not after every value
+    private static ObjectWriter writer(ObjectWriter writer) {
+        return writer.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    private static void writeString(JsonGenerator generator, String name, String value) {
+        if (value != null) {
+            generator.writeStringProperty(name, value);
+        }
+    }
+
+    private record Plan(ObjectWriter reqDataWriter, ObjectWriter pageItemWriter) {
+
+        static final Plan RUNTIME = new Plan(null, null);
+    }
+}
@@ -0,0 +1,41 @@
+package com.clean.common.web;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Buffers small POST and PUT bodies so {@link VersionedETagInterceptor} can hash them before
+ * the handler reads them. Bodies of unknown or larger size pass through untouched; their
+ * handlers then simply get no ETag.
+ */
+@Component
+public class RequestBodyCachingFilter extends OncePerRequestFilter {
+
+    private final long maxBodyBytes;
+
+    public RequestBodyCachingFilter(@Value("${clean.web.etag.max-body-bytes:65536}") long maxBodyBytes) {
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        long length = request.getContentLengthLong();
+        return !("POST".equals(method) || "PUT".equals(method)) || length < 0 || length > maxBodyBytes;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        byte[] body = request.getInputStream().readAllBytes();
+        chain.doFilter(new CachedBodyRequestWrapper(request, body), response);
+    }
+}
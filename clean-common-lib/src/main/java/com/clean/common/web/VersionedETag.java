@@ -0,0 +1,30 @@
+package com.clean.common.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Adds a weak ETag derived from entity versions to a controller method's response and answers
+ * a matching {@code If-None-Match} with 304 before the method runs, so unchanged polls skip
+ * the query and the serialization.
+ * <p>
+ * The tag combines the {@code EntityVersionRegistry} version tag of every listed entity with a
+ * hash of the request (method, path, query, {@code Accept} and, for small bodies, the body).
+ * List every entity the response is read from. On a type, applies to all its handler methods.
+ * </p>
+ *
+ * @see VersionedETagInterceptor
+ */
+@Documented
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface VersionedETag {
+
+    /**
+     * Entity types whose writes change the response.
+     */
+    Class<?>[] value();
+}
@@ -0,0 +1,122 @@
+package com.clean.common.web;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.WebUtils;
+
+import com.clean.common.base.cache.EntityVersionRegistry;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Computes the ETag of {@link VersionedETag} handlers before they run and answers a matching
+ * {@code If-None-Match} with 304 right away. Otherwise the tag is left as a request attribute
+ * for {@link VersionedETagResponseAdvice} to send with a successful, fresh body.
+ */
+@Component
+public class VersionedETagInterceptor implements HandlerInterceptor {
+
+    static final String ETAG_ATTRIBUTE = VersionedETagInterceptor.class.getName() + ".etag";
+
+    private final EntityVersionRegistry versionRegistry;
+
+    public VersionedETagInterceptor(EntityVersionRegistry versionRegistry) {
+        this.versionRegistry = versionRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Asynchronous handlers come back through here to write their result; the tag is already set
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+
+        VersionedETag annotation = findAnnotation(handler);
+        if (annotation == null) {
+            return true;
+        }
+
+        String etag = etag(annotation, request);
+        if (etag == null) {
+            return true;
+        }
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+            return false;
+        }
+
+        request.setAttribute(ETAG_ATTRIBUTE, etag);
+        return true;
+    }
+
+    static VersionedETag findAnnotation(Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return null;
+        }
+        VersionedETag annotation = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), VersionedETag.class);
+        return annotation != null ? annotation
+                : AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), VersionedETag.class);
+    }
+
+    /**
+     * Returns the weak ETag, or null when the request has a body that was not buffered by
+     * {@link RequestBodyCachingFilter} and so cannot be part of the tag.
+     */
+    private String etag(VersionedETag annotation, HttpServletRequest request) {
+        CRC32C hash = new CRC32C();
+        update(hash, request.getMethod());
+        update(hash, request.getRequestURI());
+        update(hash, request.getQueryString());
+        update(hash, request.getHeader(HttpHeaders.ACCEPT));
+
+        CachedBodyRequestWrapper cached = WebUtils.getNativeRequest(request, CachedBodyRequestWrapper.class);
+        if (cached != null) {
+            hash.update(cached.getBody());
+        } else if (request.getContentLengthLong() != 0 && request.getContentType() != null) {
+            return null;
+        }
+
+        StringBuilder tag = new StringBuilder("W/\"");
+        for (Class<?> entityType : annotation.value()) {
+            tag.append(versionRegistry.versionTag(entityType)).append('-');
+        }
+        return tag.append(Long.toHexString(hash.getValue())).append('"').toString();
+    }
+
+    private static void update(CRC32C hash, String value) {
+        if (value != null) {
+            hash.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        hash.update(0);
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String opaque = opaque(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || opaque(value).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // If-None-Match uses weak comparison: W/ prefixes are ignored
+    private static String opaque(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+}
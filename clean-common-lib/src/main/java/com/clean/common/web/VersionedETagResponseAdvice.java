@@ -0,0 +1,49 @@
+package com.clean.common.web;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.clean.common.base.dto.OBBaseResponseDTO;
+
+/**
+ * Sends the ETag computed by {@link VersionedETagInterceptor} with the response body, unless
+ * the body is an unsuccessful or stale {@link OBBaseResponseDTO}: tagging those would let
+ * clients keep an error or outdated data as the current version.
+ */
+@ControllerAdvice
+public class VersionedETagResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(VersionedETag.class)
+                || returnType.getContainingClass().isAnnotationPresent(VersionedETag.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+        Object etag = servletRequest.getServletRequest().getAttribute(VersionedETagInterceptor.ETAG_ATTRIBUTE);
+        if (etag == null) {
+            return body;
+        }
+        if (body instanceof OBBaseResponseDTO<?> envelope
+                && (!Boolean.TRUE.equals(envelope.getSuccess()) || Boolean.TRUE.equals(envelope.getStale()))) {
+            return body;
+        }
+
+        response.getHeaders().setETag(etag.toString());
+        response.getHeaders().setCacheControl("no-cache");
+        return body;
+    }
+}
@@ -0,0 +1,23 @@
+package com.clean.common.web;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers {@link VersionedETagInterceptor}. It ignores handlers without {@link VersionedETag}.
+ */
+@Configuration
+public class VersionedETagWebConfig implements WebMvcConfigurer {
+
+    private final VersionedETagInterceptor interceptor;
+
+    public VersionedETagWebConfig(VersionedETagInterceptor interceptor) {
+        this.interceptor = interceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(interceptor);
+    }
+}
@@ -0,0 +1,63 @@
+package com.clean.common.base.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+class ResilientReadCacheTest {
+
+    private static final long OPEN_MS = 100;
+
+    private ResilientReadCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ResilientReadCache(1000, 1, OPEN_MS, 100, 2, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.destroy();
+    }
+
+    @Test
+    void shedProbeReopensCircuitAndNextProbeClosesIt() throws InterruptedException {
+        assertThrows(CircuitOpenException.class, () -> cache.read("key", failing(
+                new DataAccessResourceFailureException("database down"))));
+        awaitState(CircuitBreaker.State.OPEN);
+
+        Thread.sleep(OPEN_MS + 20);
+        assertThrows(CircuitOpenException.class, () -> cache.read("key", failing(
+                new DataAccessResourceFailureException("connection refused",
+                        new ConcurrencyLimitExceededException("limit 2 reached, 0 waiting")))));
+        awaitState(CircuitBreaker.State.OPEN);
+
+        Thread.sleep(OPEN_MS + 20);
+        ResilientRead<String> read = cache.read("key", () -> "value");
+        assertEquals("value", read.value());
+        assertFalse(read.stale());
+        awaitState(CircuitBreaker.State.CLOSED);
+    }
+
+    private static Supplier<String> failing(RuntimeException failure) {
+        return () -> {
+            throw failure;
+        };
+    }
+
+    // The breaker is updated by a completion callback that may run just after the read returns
+    private void awaitState(CircuitBreaker.State expected) throws InterruptedException {
+        long deadline = System.nanoTime() + 1_000_000_000L;
+        while (cache.getState() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, cache.getState());
+    }
+}
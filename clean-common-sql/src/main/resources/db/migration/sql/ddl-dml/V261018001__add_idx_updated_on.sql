@@ -0,0 +1,9 @@
+-- Migration: V261018001__add_idx_updated_on.sql
+-- Description: Index updated_on on TBL_CLEAN_CONFIG and TBL_CLEAN_USER for watermark-based delta sync
+-- Author: Clean Architecture Project
+-- Date: 2026-10-18
+
+-- Supports "WHERE updated_on >= ? ORDER BY updated_on" (changedSince) as an index range scan
+CREATE INDEX idx_updated_on ON TBL_CLEAN_CONFIG (updated_on);
+
+CREATE INDEX idx_updated_on ON TBL_CLEAN_USER (updated_on);
@@ -0,0 +1,14 @@
+-- Migration: V261018002__create_tbl_clean_cache_version.sql
+-- Description: Create TBL_CLEAN_CACHE_VERSION, one monotonically increasing version per cached table
+-- Author: Clean Architecture Project
+-- Date: 2026-10-18
+
+-- Every write through BaseJpaService increments the row of its table in the same transaction.
+-- Each pod polls this table (a few rows, primary-key lookups) and drops its local caches of a
+-- table only when its version has moved.
+CREATE TABLE IF NOT EXISTS TBL_CLEAN_CACHE_VERSION (
+    cache_name VARCHAR(100) NOT NULL PRIMARY KEY COMMENT 'Cached table name (e.g., TBL_CLEAN_CONFIG)',
+    version BIGINT NOT NULL DEFAULT 0 COMMENT 'Incremented by every committed write to the table',
+    updated_on DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT 'Timestamp of the last increment'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='Cross-instance cache invalidation versions per table';
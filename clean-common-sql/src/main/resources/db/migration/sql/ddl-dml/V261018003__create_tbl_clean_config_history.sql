@@ -0,0 +1,36 @@
+-- Migration: V261018003__create_tbl_clean_config_history.sql
+-- Description: Create TBL_CLEAN_CONFIG_HISTORY, append-only row versions of TBL_CLEAN_CONFIG
+-- Author: Clean Architecture Project
+-- Date: 2026-10-18
+
+-- Every committed add/update/promotion copies the new row state here in the same transaction.
+-- Rows are never updated or deleted. The state as of time T is, per prop_key, the row with the
+-- greatest valid_from <= T (ties broken by history_id); idx_prop_key_valid_from serves that as
+-- one ordered pass.
+CREATE TABLE IF NOT EXISTS TBL_CLEAN_CONFIG_HISTORY (
+    history_id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT 'Auto-generated surrogate primary key',
+    valid_from DATETIME NOT NULL COMMENT 'updated_on of the source row: when this version became current',
+
+    -- Copy of the TBL_CLEAN_CONFIG row
+    id BIGINT NOT NULL COMMENT 'TBL_CLEAN_CONFIG.id',
+    prop_key VARCHAR(255) NOT NULL COMMENT 'Property key/name',
+    dev_value TEXT COMMENT 'Property value for DEV environment',
+    sit_value TEXT COMMENT 'Property value for SIT environment',
+    uat_value TEXT COMMENT 'Property value for UAT environment',
+    prod_value TEXT COMMENT 'Property value for PROD environment',
+    dr_value TEXT COMMENT 'Property value for DR environment',
+    description TEXT COMMENT 'Description of what this property is for',
+    category VARCHAR(100) COMMENT 'Category/group',
+    data_type VARCHAR(50) COMMENT 'Data type: string, int, boolean, json',
+    is_sensitive BOOLEAN COMMENT 'Flag for sensitive/encrypted properties',
+    created_on DATETIME COMMENT 'Timestamp when property was created',
+    created_by VARCHAR(255) COMMENT 'Username who created the property',
+    updated_on DATETIME COMMENT 'Timestamp when property was last updated',
+    updated_by VARCHAR(255) COMMENT 'Username who last updated the property',
+
+    recorded_on DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT 'Timestamp when the history row was written',
+
+    INDEX idx_prop_key_valid_from (prop_key, valid_from),
+    INDEX idx_valid_from (valid_from)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='Append-only history of TBL_CLEAN_CONFIG row versions';
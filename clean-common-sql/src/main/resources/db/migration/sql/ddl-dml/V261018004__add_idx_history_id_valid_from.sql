@@ -0,0 +1,8 @@
+-- Migration: V261018004__add_idx_history_id_valid_from.sql
+-- Description: Index TBL_CLEAN_CONFIG_HISTORY by row id and valid_from for point-in-time reads
+-- Author: Clean Architecture Project
+-- Date: 2026-10-18
+
+-- prop_key is a mutable natural id, so versions of one property are grouped by id: the state as of
+-- time T is, per id, the row with the greatest valid_from <= T. This index serves that as one ordered pass.
+CREATE INDEX idx_id_valid_from ON TBL_CLEAN_CONFIG_HISTORY (id, valid_from);
@@ -0,0 +1,13 @@
+-- Migration: V261018005__add_tbl_clean_config_version.sql
+-- Description: Add the optimistic lock column version to TBL_CLEAN_CONFIG and its history table
+-- Author: Clean Architecture Project
+-- Date: 2026-10-18
+
+-- Hibernate checks and increments version on every update, so an update built from a stale cached
+-- row fails instead of silently reverting another instance's write. Set-based promotions bump it by hand.
+ALTER TABLE TBL_CLEAN_CONFIG
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0 COMMENT 'Optimistic lock version' AFTER updated_by;
+
+-- History rows copy every mapped column of the source row
+ALTER TABLE TBL_CLEAN_CONFIG_HISTORY
+    ADD COLUMN version BIGINT COMMENT 'TBL_CLEAN_CONFIG.version' AFTER updated_by;